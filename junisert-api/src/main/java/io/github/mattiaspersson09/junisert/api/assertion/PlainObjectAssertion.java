@@ -85,6 +85,65 @@ public interface PlainObjectAssertion extends Assertion<PlainObjectAssertion>, E
      */
     PlainObjectAssertion implementsEqualsAndHashCode() throws UnitAssertionError;
 
+    /**
+     * Includes <em>instance</em> fields inherited from superclasses when asserting {@code equals} and
+     * {@code hashCode}, which is only recommended if the unit is also including inherited state in
+     * {@code equals} and {@code hashCode}, for example by calling {@code super.equals(Object)}.
+     * Superclasses from the Java platform, such as {@link Object}, are never included.
+     *
+     * @return this assertion chained to assert more
+     * @see #implementsEqualsAndHashCode()
+     */
+    PlainObjectAssertion includingInheritedFields();
+
+    /**
+     * Verifies getters and setters statically from their bytecode when asserting {@code hasGetters} and
+     * {@code hasSetters}, instead of creating unit instances and invoking them. Only trivial accessors are
+     * verified statically, which directly returns a field or directly assigns their argument to a field,
+     * every other accessor is still verified by invoking it.<br>
+     * <br>
+     * This is recommended for large batches of units with many trivial accessors, or units having dependencies
+     * that are expensive to create.
+     *
+     * @return this assertion chained to assert more
+     * @see #hasGetters()
+     * @see #hasSetters()
+     */
+    PlainObjectAssertion verifyingAccessorsStatically();
+
+    /**
+     * Creates instances of mutable units without running any of their constructors, leaving every instance field
+     * with its default value until set by an assertion. Units that can't be created this way on the running JVM,
+     * and immutable units, are still created from their constructors.<br>
+     * <br>
+     * This is recommended for mutable units with constructors that are expensive to satisfy, such as units having
+     * deep dependencies. Fields which are excluded keep their default values instead of their constructed values.
+     *
+     * @return this assertion chained to assert more
+     * @see #hasGetters()
+     * @see #hasSetters()
+     * @see #implementsEqualsAndHashCode()
+     * @see #implementsToString()
+     */
+    PlainObjectAssertion creatingInstancesWithoutConstructors();
+
+    /**
+     * Creates one fully constructed prototype per unit and then creates instances as copies of it, copying every
+     * instance field of the prototype without running any constructor. Copies are shallow, meaning field values are
+     * shared between instances until set by an assertion. Units that can't be copied on the running JVM are still
+     * created for every instance.<br>
+     * <br>
+     * This is recommended for wide units, or units having dependencies that are expensive to create, where
+     * constructing a new instance for every check dominates the assertion.
+     *
+     * @return this assertion chained to assert more
+     * @see #hasGetters()
+     * @see #hasSetters()
+     * @see #implementsEqualsAndHashCode()
+     * @see #implementsToString()
+     */
+    PlainObjectAssertion creatingInstancesFromPrototypes();
+
     /**
      * Asserts that unit implements {@code toString} and it returns a suitable textual representation of the object.
      * This assertion will enforce that {@code toString} contains the name of the unit and all <em>instance fields</em>
@@ -24,6 +24,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * <strong>INTERNAL DISCLAIMER:</strong>
@@ -33,9 +34,15 @@ import java.util.Objects;
  * This class is visible because of support for Java version 8 and lack of modularity
  * and when support is dropping for version 8 this will lose visibility.
  * </p>
+ * <p>
+ * The first supporting generator, or lack thereof, is resolved once per requested type and memoized for later
+ * lookups. Merging produces a new aggregated generator with its own memo. Support generators are aggregated as
+ * immutable copies, so that adding more implementations to them later won't leave the memo behind.
+ * </p>
  */
 public final class AggregatedSupportGenerator implements AggregatedValueGenerator {
     private final List<ValueGenerator<?>> generators;
+    private final ClassValue<Optional<ValueGenerator<?>>> resolved;
 
     /**
      * Creates a new aggregated support generator with given {@link ValueGenerator}'s to be internally aggregated.
@@ -43,24 +50,35 @@ public final class AggregatedSupportGenerator implements AggregatedValueGenerato
      * @param generators aggregated generators
      */
     public AggregatedSupportGenerator(Collection<ValueGenerator<?>> generators) {
-        this.generators = new ArrayList<>(generators);
+        this.generators = new ArrayList<>(generators.size());
+        for (ValueGenerator<?> generator : generators) {
+            this.generators.add(generator instanceof SupportGenerator
+                    ? ((SupportGenerator<?>) generator).toImmutable()
+                    : generator);
+        }
+        this.resolved = new ClassValue<Optional<ValueGenerator<?>>>() {
+            @Override
+            protected Optional<ValueGenerator<?>> computeValue(Class<?> type) {
+                return resolve(type);
+            }
+        };
     }
 
     @Override
     public Value<?> generate(Class<?> fromType) throws UnsupportedTypeError {
-        for (ValueGenerator<?> generator : generators) {
-            if (generator.supports(fromType)) {
-                return generator.generate(fromType);
-            }
-        }
-
-        throw new UnsupportedTypeError(fromType);
+        return resolved.get(fromType)
+                .orElseThrow(() -> new UnsupportedTypeError(fromType))
+                .generate(fromType);
     }
 
     @Override
     public boolean supports(Class<?> type) {
-        return generators.stream()
-                .anyMatch(generator -> generator.supports(type));
+        return resolved.get(type).isPresent();
+    }
+
+    @Override
+    public Optional<Value<?>> tryGenerate(Class<?> type) {
+        return resolved.get(type).flatMap(generator -> tryGenerate(generator, type));
     }
 
     @Override
@@ -72,8 +90,8 @@ public final class AggregatedSupportGenerator implements AggregatedValueGenerato
     public AggregatedValueGenerator merge(ValueGenerator<?> generator) {
         List<ValueGenerator<?>> aggregated = new ArrayList<>(generators);
 
-        if (generator instanceof AggregatedValueGenerator) {
-            aggregated.addAll(((AggregatedValueGenerator) generator).aggregated());
+        if (generator instanceof AggregatedSupportGenerator) {
+            aggregated.addAll(((AggregatedSupportGenerator) generator).generators);
         } else {
             aggregated.add(generator);
         }
@@ -85,8 +103,8 @@ public final class AggregatedSupportGenerator implements AggregatedValueGenerato
     public AggregatedValueGenerator mergeFirst(ValueGenerator<?> generator) {
         List<ValueGenerator<?>> aggregated = new ArrayList<>();
 
-        if (generator instanceof AggregatedValueGenerator) {
-            aggregated.addAll(((AggregatedValueGenerator) generator).aggregated());
+        if (generator instanceof AggregatedSupportGenerator) {
+            aggregated.addAll(((AggregatedSupportGenerator) generator).generators);
         } else {
             aggregated.add(generator);
         }
@@ -115,4 +133,19 @@ public final class AggregatedSupportGenerator implements AggregatedValueGenerato
                 "generators=" + generators +
                 '}';
     }
+
+    // Lets aggregated generators use their own single pass generation
+    private static Optional<Value<?>> tryGenerate(ValueGenerator<?> generator, Class<?> type) {
+        return generator.tryGenerate(type).map(value -> value);
+    }
+
+    private Optional<ValueGenerator<?>> resolve(Class<?> type) {
+        for (ValueGenerator<?> generator : generators) {
+            if (generator.supports(type)) {
+                return Optional.of(generator);
+            }
+        }
+
+        return Optional.empty();
+    }
 }
@@ -43,6 +43,15 @@ final class Implementation<T> implements Value<T> {
         this.value = Objects.requireNonNull(value, "Can't construct a lazy value object without a value supplier");
     }
 
+    /**
+     * Gets the exact type of this implementation.
+     *
+     * @return implementation type
+     */
+    Class<T> getImplementationType() {
+        return implementationType;
+    }
+
     /**
      * Check if this value is an implementation of {@code origin}. Origin should be
      * a super type of this implementation or be EXACTLY this implementation to
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.api.internal.support;
+
+import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
+import io.github.mattiaspersson09.junisert.api.value.Value;
+import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <strong>INTERNAL DISCLAIMER:</strong>
+ * <p>
+ * Internal API and not considered stable for direct usage by external users of this API,
+ * can be modified, become invisible, moved, renamed or removed without proper notice.
+ * This class is visible because of support for Java version 8 and lack of modularity
+ * and when support is dropping for version 8 this will lose visibility.
+ * </p>
+ * <p>
+ * Layers of value support asked in order, where the first layer supporting a type generates its value.
+ * Layers are kept as they are and not copied, so that layers shared between several layered generators also
+ * share their own resolution, for example an {@link AggregatedSupportGenerator} memoizing its supporting generator.
+ * Merging produces a new layered generator with the merged generator as its own layer.
+ * </p>
+ */
+public final class LayeredSupportGenerator implements AggregatedValueGenerator {
+    private final ValueGenerator<?>[] layers;
+
+    /**
+     * Creates a new layered support generator with given layers, in order of priority.
+     *
+     * @param layers of value support
+     */
+    public LayeredSupportGenerator(ValueGenerator<?>... layers) {
+        this.layers = layers.clone();
+    }
+
+    @Override
+    public Value<?> generate(Class<?> fromType) throws UnsupportedTypeError {
+        return tryGenerate(fromType).orElseThrow(() -> new UnsupportedTypeError(fromType));
+    }
+
+    @Override
+    public boolean supports(Class<?> type) {
+        for (ValueGenerator<?> layer : layers) {
+            if (layer.supports(type)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public Optional<Value<?>> tryGenerate(Class<?> type) {
+        for (ValueGenerator<?> layer : layers) {
+            Optional<? extends Value<?>> value = layer.tryGenerate(type);
+
+            if (value.isPresent()) {
+                return Optional.of(value.get());
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public Collection<ValueGenerator<?>> aggregated() {
+        return Collections.unmodifiableList(Arrays.asList(layers));
+    }
+
+    @Override
+    public AggregatedValueGenerator merge(ValueGenerator<?> generator) {
+        List<ValueGenerator<?>> merged = new ArrayList<>(Arrays.asList(layers));
+        merged.addAll(layersOf(generator));
+
+        return new LayeredSupportGenerator(merged.toArray(new ValueGenerator<?>[0]));
+    }
+
+    @Override
+    public AggregatedValueGenerator mergeFirst(ValueGenerator<?> generator) {
+        List<ValueGenerator<?>> merged = new ArrayList<>(layersOf(generator));
+        merged.addAll(Arrays.asList(layers));
+
+        return new LayeredSupportGenerator(merged.toArray(new ValueGenerator<?>[0]));
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (object == null || getClass() != object.getClass()) return false;
+        LayeredSupportGenerator that = (LayeredSupportGenerator) object;
+        return Arrays.equals(layers, that.layers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(layers);
+    }
+
+    @Override
+    public String toString() {
+        return "LayeredSupportGenerator{" +
+                "layers=" + Arrays.toString(layers) +
+                '}';
+    }
+
+    private static Collection<ValueGenerator<?>> layersOf(ValueGenerator<?> generator) {
+        Objects.requireNonNull(generator);
+
+        return generator instanceof LayeredSupportGenerator
+                ? ((LayeredSupportGenerator) generator).aggregated()
+                : Collections.singletonList(generator);
+    }
+}
@@ -22,19 +22,30 @@ import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Internal {@code ValueGenerator} for polymorphic support for a value type, supporting {@code 1..N} number of
  * implementations that can be generated. This generator is mutable and supporting that more implementations can be
- * added after creation.
+ * added after creation, until an immutable copy is made for an {@link AggregatedSupportGenerator}.
+ * <p>
+ * Implementations are indexed by their exact type and the first registered implementation of a requested type
+ * is memoized per requested type, meaning repeated lookups don't need to scan every implementation again.
+ * </p>
  *
  * @param <T> polymorphic type this generator is supporting and generate values for.
  */
 final class SupportGenerator<T> implements ValueGenerator<T> {
     private final Class<T> type;
     private final List<Implementation<? extends T>> implementations;
+    private final Map<Class<?>, Integer> positions;
+    private final boolean immutable;
+    // Tied to the requested types, so memoizing them won't prevent their class loaders from being unloaded
+    private volatile ClassValue<Optional<Implementation<? extends T>>> resolved;
 
     SupportGenerator(Class<T> type) {
         this(type, Collections.emptyList());
@@ -46,14 +57,43 @@ final class SupportGenerator<T> implements ValueGenerator<T> {
 
     SupportGenerator(Class<T> type, Collection<Implementation<? extends T>> implementations) {
         this.type = Objects.requireNonNull(type);
-        this.implementations = new ArrayList<>(Objects.requireNonNull(implementations));
+        this.implementations = new ArrayList<>();
+        this.positions = new HashMap<>();
+        this.immutable = false;
+        this.resolved = createResolved();
+
+        Objects.requireNonNull(implementations).forEach(this::addSupport);
+    }
+
+    private SupportGenerator(SupportGenerator<T> original) {
+        this.type = original.type;
+        this.implementations = Collections.unmodifiableList(new ArrayList<>(original.implementations));
+        this.positions = Collections.unmodifiableMap(new HashMap<>(original.positions));
+        this.immutable = true;
+        this.resolved = createResolved();
     }
 
     SupportGenerator<T> addSupport(Implementation<? extends T> implementation) {
+        if (immutable) {
+            throw new UnsupportedOperationException("Not allowed to add support to an aggregated " + type.getName());
+        }
+
+        positions.putIfAbsent(implementation.getImplementationType(), implementations.size());
         implementations.add(implementation);
+        resolved = createResolved();
         return this;
     }
 
+    /**
+     * Copy of this generator that can't be changed, so that aggregated generators can memoize which generator
+     * supports a requested type without later added implementations being missed.
+     *
+     * @return an immutable copy, or this generator if it already is immutable
+     */
+    SupportGenerator<T> toImmutable() {
+        return immutable ? this : new SupportGenerator<>(this);
+    }
+
     int size() {
         return implementations.size();
     }
@@ -64,10 +104,7 @@ final class SupportGenerator<T> implements ValueGenerator<T> {
 
     @Override
     public Value<? extends T> generate(Class<?> fromType) throws UnsupportedTypeError {
-        return implementations.stream()
-                .filter(impl -> impl.isImplementationOf(fromType))
-                .findFirst()
-                .orElseThrow(() -> new UnsupportedTypeError(fromType));
+        return findImplementation(fromType).orElseThrow(() -> new UnsupportedTypeError(fromType));
     }
 
     @Override
@@ -78,8 +115,16 @@ final class SupportGenerator<T> implements ValueGenerator<T> {
         // also an actual implementation of the type to generate value for.
         // To follow rule of polymorphism, BUT prevent trying to do narrowing conversion
         // specified in Java Language Specification > Assignment Contexts
-        return this.type.isAssignableFrom(type) && implementations.stream()
-                .anyMatch(impl -> impl.isImplementationOf(type));
+        return type != null && this.type.isAssignableFrom(type) && findImplementation(type).isPresent();
+    }
+
+    @Override
+    public Optional<Value<? extends T>> tryGenerate(Class<?> type) {
+        if (type == null || !this.type.isAssignableFrom(type)) {
+            return Optional.empty();
+        }
+
+        return findImplementation(type).map(implementation -> implementation);
     }
 
     @Override
@@ -102,4 +147,34 @@ final class SupportGenerator<T> implements ValueGenerator<T> {
                 ", implementations=" + implementations +
                 '}';
     }
+
+    private Optional<Implementation<? extends T>> findImplementation(Class<?> fromType) {
+        if (fromType == null) {
+            return Optional.empty();
+        }
+
+        return resolved.get(fromType);
+    }
+
+    private ClassValue<Optional<Implementation<? extends T>>> createResolved() {
+        return new ClassValue<Optional<Implementation<? extends T>>>() {
+            @Override
+            protected Optional<Implementation<? extends T>> computeValue(Class<?> fromType) {
+                return resolve(fromType);
+            }
+        };
+    }
+
+    private Optional<Implementation<? extends T>> resolve(Class<?> fromType) {
+        // An exact implementation only wins if no implementation registered before it is also a match
+        int last = positions.getOrDefault(fromType, implementations.size());
+
+        for (int i = 0; i < last; i++) {
+            if (implementations.get(i).isImplementationOf(fromType)) {
+                return Optional.of(implementations.get(i));
+            }
+        }
+
+        return last < implementations.size() ? Optional.of(implementations.get(last)) : Optional.empty();
+    }
 }
@@ -15,6 +15,8 @@
  */
 package io.github.mattiaspersson09.junisert.api.value;
 
+import java.util.Optional;
+
 /**
  * Generates a value representation of a requested type if it's supported.
  *
@@ -39,4 +41,18 @@ public interface ValueGenerator<T> {
      * @return true if type is supported by this generator
      */
     boolean supports(Class<?> type);
+
+    /**
+     * Generates a value representation of {@code type} if it's supported, in a single pass. Generators that do
+     * the same work when checking support and generating should override this to only do it once.
+     * Errors during generation of a supported type is still thrown.
+     *
+     * @param type to generate value for
+     * @return object value of type, or empty if type is not supported by this generator
+     * @see #supports(Class)
+     * @see #generate(Class)
+     */
+    default Optional<Value<? extends T>> tryGenerate(Class<?> type) {
+        return supports(type) ? Optional.of(generate(type)) : Optional.empty();
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.api.value;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Provides value support for third-party types, discovered with {@link java.util.ServiceLoader} instead of being
+ * registered manually. Providers are listed in
+ * {@code META-INF/services/io.github.mattiaspersson09.junisert.api.value.ValueSupportProvider}.
+ * <p>
+ * A provider declares which types it handles, by package prefixes or root types, and should be cheap to create.
+ * The actual support is only created from {@link #createSupport()} when a handled type is first requested.
+ * Providers needs a public no-argument constructor.
+ */
+public interface ValueSupportProvider {
+    /**
+     * Gets package prefixes handled by this provider, such as {@code org.joda.time}. A type is handled if it's
+     * declared in a prefixed package or any of its sub packages.
+     *
+     * @return handled package prefixes, empty by default
+     */
+    default Set<String> packagePrefixes() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Gets root types handled by this provider. A type is handled if it's a root type or any of its subtypes.
+     *
+     * @return handled root types, empty by default
+     */
+    default Set<Class<?>> rootTypes() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Creates the value support of this provider. Is only called once, when a handled type is first requested.
+     *
+     * @return value support for handled types
+     */
+    ValueGenerator<?> createSupport();
+}
@@ -18,6 +18,7 @@ package io.github.mattiaspersson09.junisert.api.internal.support;
 import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
 import io.github.mattiaspersson09.junisert.api.value.Value;
 import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
+import io.github.mattiaspersson09.junisert.testunits.polymorphism.Impl;
 import io.github.mattiaspersson09.junisert.testunits.polymorphism.Super;
 
 import java.util.Arrays;
@@ -71,6 +72,52 @@ public class AggregatedSupportGeneratorTest {
         assertThat(aggregated.supports(Integer.class)).isFalse();
     }
 
+    @Test
+    void supports_whenTypeIsRequestedSeveralTimes_thenResolvesSupportingGeneratorOnce() {
+        CountingGenerator counting = new CountingGenerator();
+        AggregatedSupportGenerator aggregated = new AggregatedSupportGenerator(Arrays.asList(
+                counting, new IntegerGenerator(1_000)));
+
+        assertThat(aggregated.supports(Integer.class)).isTrue();
+        assertThat(aggregated.generate(Integer.class).get()).isEqualTo(1_000);
+        assertThat(aggregated.generate(Integer.class).get()).isEqualTo(1_000);
+        assertThat(aggregated.supports(Long.class)).isFalse();
+        assertThat(aggregated.supports(Long.class)).isFalse();
+
+        assertThat(counting.calls).isEqualTo(2);
+    }
+
+    @Test
+    void merge_whenTypeWasResolvedBefore_thenMergedResolvesWithOwnMemo() {
+        AggregatedSupportGenerator aggregated = new AggregatedSupportGenerator(Collections.singletonList(
+                new IntGenerator(1, 0)));
+
+        assertThat(aggregated.supports(Integer.class)).isFalse();
+
+        AggregatedValueGenerator merged = aggregated.merge(new IntegerGenerator(1_000));
+        AggregatedValueGenerator mergedFirst = aggregated.mergeFirst(new IntegerGenerator(2_000));
+
+        assertThat(aggregated.supports(Integer.class)).isFalse();
+        assertThat(merged.generate(Integer.class).get()).isEqualTo(1_000);
+        assertThat(mergedFirst.generate(Integer.class).get()).isEqualTo(2_000);
+    }
+
+    @Test
+    void supports_whenSupportIsAddedToAggregatedSupportGenerator_thenAggregatedIsUnchanged() {
+        SupportGenerator<Super> support = new SupportGenerator<>(Super.class);
+        AggregatedSupportGenerator aggregated = new AggregatedSupportGenerator(Collections.singletonList(support));
+
+        assertThat(aggregated.supports(Impl.class)).isFalse();
+
+        support.addSupport(new Implementation<>(Impl.class, Impl::new));
+
+        assertThat(support.supports(Impl.class)).isTrue();
+        assertThat(aggregated.supports(Impl.class)).isFalse();
+        assertThatThrownBy(() -> ((SupportGenerator<?>) aggregated.aggregated().iterator().next())
+                .addSupport(new Implementation<>(Impl.class, Impl::new)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
     @Test
     void aggregated_returnsUnmodifiableView() {
         ValueGenerator<?> wrapper = new IntegerGenerator(1_000);
@@ -120,6 +167,16 @@ public class AggregatedSupportGeneratorTest {
                 .anyMatch(generator -> generator.getClass().equals(IntGenerator.class));
     }
 
+    @Test
+    void merge_whenLayeredSupportGenerator_thenMergedAsOneGenerator() {
+        LayeredSupportGenerator layered = new LayeredSupportGenerator(new IntegerGenerator(1_000),
+                new IntGenerator(1, 0));
+        AggregatedSupportGenerator aggregated = new AggregatedSupportGenerator(Collections.emptyList());
+
+        assertThat(aggregated.merge(layered).aggregated()).containsExactly(layered);
+        assertThat(aggregated.mergeFirst(layered).aggregated()).containsExactly(layered);
+    }
+
     @Test
     void merge_whenHasAggregatedGeneratorsFromBefore_thenMerges_andAddsMergedLast() {
         AggregatedValueGenerator aggregatedValueGenerator = new AggregatedSupportGenerator(Arrays.asList(
@@ -224,4 +281,19 @@ public class AggregatedSupportGeneratorTest {
             return Integer.class.equals(type);
         }
     }
+
+    private static class CountingGenerator implements ValueGenerator<Object> {
+        private int calls;
+
+        @Override
+        public Value<?> generate(Class<?> fromType) throws UnsupportedTypeError {
+            throw new UnsupportedTypeError(fromType);
+        }
+
+        @Override
+        public boolean supports(Class<?> type) {
+            calls++;
+            return false;
+        }
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.api.internal.support;
+
+import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
+import io.github.mattiaspersson09.junisert.api.value.Value;
+import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LayeredSupportGeneratorTest {
+    @Test
+    void generate_whenSeveralLayersSupportType_thenGeneratesFromFirstLayer() {
+        LayeredSupportGenerator layered = new LayeredSupportGenerator(
+                new StringGenerator("first"), new StringGenerator("second"));
+
+        assertThat(layered.generate(String.class).get()).isEqualTo("first");
+        assertThat(layered.tryGenerate(String.class)).get().extracting(Value::get).isEqualTo("first");
+    }
+
+    @Test
+    void generate_whenNoLayerSupportsType_thenThrowsUnsupportedTypeError() {
+        LayeredSupportGenerator layered = new LayeredSupportGenerator(new StringGenerator("first"));
+
+        assertThat(layered.supports(Integer.class)).isFalse();
+        assertThat(layered.tryGenerate(Integer.class)).isEmpty();
+        assertThatThrownBy(() -> layered.generate(Integer.class)).isInstanceOf(UnsupportedTypeError.class);
+    }
+
+    @Test
+    void mergeFirst_whenMergingGenerator_thenSharesExistingLayersWithoutCopying() {
+        ValueGenerator<?> shared = new StringGenerator("shared");
+        ValueGenerator<?> temporary = new StringGenerator("temporary");
+        LayeredSupportGenerator layered = new LayeredSupportGenerator(shared);
+
+        AggregatedValueGenerator merged = layered.mergeFirst(temporary);
+
+        assertThat(merged.aggregated()).containsExactly(temporary, shared);
+        assertThat(merged.generate(String.class).get()).isEqualTo("temporary");
+        assertThat(layered.aggregated()).containsExactly(shared);
+    }
+
+    @Test
+    void merge_whenMergingLayeredGenerator_thenAddsItsLayersLast() {
+        ValueGenerator<?> first = new StringGenerator("first");
+        ValueGenerator<?> second = new StringGenerator("second");
+        ValueGenerator<?> third = new StringGenerator("third");
+
+        AggregatedValueGenerator merged = new LayeredSupportGenerator(first)
+                .merge(new LayeredSupportGenerator(second, third));
+
+        assertThat(merged.aggregated()).containsExactly(first, second, third);
+    }
+
+    private static class StringGenerator implements ValueGenerator<String> {
+        private final String value;
+
+        StringGenerator(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public Value<? extends String> generate(Class<?> fromType) throws UnsupportedTypeError {
+            return () -> value;
+        }
+
+        @Override
+        public boolean supports(Class<?> type) {
+            return type == String.class;
+        }
+    }
+}
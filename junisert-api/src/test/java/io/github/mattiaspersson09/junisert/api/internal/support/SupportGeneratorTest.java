@@ -117,6 +117,31 @@ public class SupportGeneratorTest {
         assertThat(support.generate(OtherImpl.class).get()).isEqualTo(otherImpl.get());
     }
 
+    @Test
+    void generate_whenNarrowerImplementationIsRegisteredFirst_thenFirstRegisteredWins() {
+        Implementation<ExtendingImpl> extendingImpl = new Implementation<>(ExtendingImpl.class, ExtendingImpl::new);
+        Implementation<Impl> impl = new Implementation<>(Impl.class, Impl::new);
+        SupportGenerator<Super> support = new SupportGenerator<>(Super.class, Arrays.asList(extendingImpl, impl));
+
+        assertThat(support.generate(Impl.class).get()).isExactlyInstanceOf(ExtendingImpl.class);
+        assertThat(support.generate(Impl.class).get()).isExactlyInstanceOf(ExtendingImpl.class);
+        assertThat(support.generate(ExtendingImpl.class).get()).isExactlyInstanceOf(ExtendingImpl.class);
+    }
+
+    @Test
+    void generate_whenSupportIsAddedAfterLookup_thenLooksUpAddedSupport() {
+        SupportGenerator<Super> support = new SupportGenerator<>(Super.class,
+                new Implementation<>(OtherImpl.class, OtherImpl::new));
+
+        assertThat(support.supports(Impl.class)).isFalse();
+
+        support.addSupport(new Implementation<>(Impl.class, Impl::new));
+
+        assertThat(support.supports(Impl.class)).isTrue();
+        assertThat(support.generate(Impl.class).get()).isExactlyInstanceOf(Impl.class);
+        assertThat(support.generate(Super.class).get()).isExactlyInstanceOf(OtherImpl.class);
+    }
+
     @Test
     void generate_whenTypeIsNotSupported_thenThrowsUnsupportedTypeException() {
         Implementation<Impl> implementation = new Implementation<>(Impl.class, Impl::new);
@@ -18,7 +18,10 @@ package io.github.mattiaspersson09.junisert.common.reflection;
 import io.github.mattiaspersson09.junisert.testunits.constructor.ArgConstructor;
 import io.github.mattiaspersson09.junisert.testunits.field.MixedMutableAndImmutableFields;
 import io.github.mattiaspersson09.junisert.testunits.field.OnlyImmutableFields;
+import io.github.mattiaspersson09.junisert.testunits.unit.enumeration.EnumUnit;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Objects;
 
 import org.junit.jupiter.api.Test;
@@ -126,6 +129,55 @@ public class UnitIntegrationTest {
         assertThat(unit.findMethodsMatching(method -> method.getName().equals("toString"))).isEmpty();
     }
 
+    @Test
+    void givenMembers_whenLookingUpByIndex_thenFindsSameMembersAsScanning() {
+        Unit unit = Unit.of(ExampleUnit.class);
+
+        assertThat(unit.findField("field")).hasValueSatisfying(field -> assertThat(field.getName()).isEqualTo("field"));
+        assertThat(unit.findField("missing")).isEmpty();
+        assertThat(unit.findConstructor())
+                .hasValueSatisfying(constructor -> assertThat(constructor.isDefault()).isTrue());
+        assertThat(unit.findConstructor(Object.class))
+                .hasValueSatisfying(constructor -> assertThat(constructor.hasParameters(Object.class)).isTrue());
+        assertThat(unit.findConstructor(String.class)).isEmpty();
+        assertThat(unit.findConstructor(Signature.of(Object.class))).isEqualTo(unit.findConstructor(Object.class));
+        assertThat(unit.findMethod("setField", Object.class))
+                .hasValueSatisfying(method -> assertThat(method.getName()).isEqualTo("setField"));
+        assertThat(unit.findMethod("setField", Signature.EMPTY)).isEmpty();
+        assertThat(unit.findMethod("equals", Object.class)).isPresent();
+        assertThat(unit.findMethod("missing")).isEmpty();
+        assertThat(unit.findMethodsNamed("getField"))
+                .containsExactlyElementsOf(unit.findMethodsMatching(method -> method.getName().equals("getField")));
+        assertThat(unit.findMethodsNamed("missing")).isEmpty();
+        assertThat(unit.findMethodsNamed(Arrays.asList("getField", "getFinalField", "missing")))
+                .extracting(Method::getName)
+                .containsExactly("getField", "getFinalField");
+        assertThat(unit.findMethodsWithParameterCount(1))
+                .containsExactlyInAnyOrderElementsOf(unit.findMethodsMatching(method -> method.hasParameterCount(1)));
+        assertThat(unit.findMethodsReturning(Object.class))
+                .extracting(Method::getName)
+                .containsExactlyInAnyOrder("getField", "getFinalField");
+        assertThat(unit.findMethodsReturning(Integer.class)).isEmpty();
+    }
+
+    @Test
+    void givenMembers_whenAccessedMoreThanOnce_thenReusesSameMember() {
+        Unit unit = Unit.of(ExampleUnit.class);
+
+        assertThat(unit.findMethodsNamed("getField").get(0)).isSameAs(unit.findMethodsNamed("getField").get(0));
+        assertThat(unit.findMethod("getField")).containsSame(unit.findMethodsNamed("getField").get(0));
+        assertThat(unit.findField("field")).containsSame(unit.findField("field").orElse(null));
+        assertThat(unit.getFields()).contains(unit.findField("field").orElse(null));
+    }
+
+    @Test
+    void givenPlatformClass_whenCreatingUnit_thenDoesNotForceAccessToMembers() {
+        Unit unit = Unit.of(Thread.State.class);
+
+        assertThat(unit.isEnum()).isTrue();
+        assertThat(unit.hasField("NEW")).isTrue();
+    }
+
     @Test
     void whenHaveModifiers_thenHasInformationAboutModifiers() {
         Unit unit = Unit.of(ExampleUnit.class);
@@ -155,6 +207,59 @@ public class UnitIntegrationTest {
         assertThatThrownBy(() -> Unit.of(null))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("unit origin");
+        assertThatThrownBy(() -> Unit.cached(null))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("unit origin");
+    }
+
+    @Test
+    void cached_whenSameOrigin_thenReusesAlreadyCreatedUnit() {
+        Unit unit = Unit.cached(ExampleUnit.class);
+
+        assertThat(Unit.cached(ExampleUnit.class)).isSameAs(unit);
+        assertThat(Unit.cached(EmptyUnit.class)).isNotSameAs(unit);
+        assertThat(unit).isEqualTo(Unit.of(ExampleUnit.class));
+        assertThat(unit.getFields()).hasSameSizeAs(Unit.of(ExampleUnit.class).getFields());
+    }
+
+    @Test
+    void whenGettingMembers_thenMembersAreUnmodifiable() {
+        Unit unit = Unit.cached(ExampleUnit.class);
+
+        assertThatThrownBy(() -> unit.getFields().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> unit.getConstructors().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> unit.getMethods().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void whenGettingMembersOfEmptyUnit_thenMembersAreUnmodifiable() {
+        Unit unit = Unit.cached(EmptyUnit.class);
+
+        assertThatThrownBy(() -> unit.getFields().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> unit.getMethods().addAll(Collections.emptyList()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> unit.getConstructors().removeIf(constructor -> true))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void givenGeneratedMetadata_whenUnitIsCreated_thenHasTraitsFromMetadata() {
+        Unit unit = Unit.of(MetadataUnit.class);
+
+        assertThat(unit.declaresEquals()).isTrue();
+        assertThat(unit.declaresHashCode()).isTrue();
+        assertThat(unit.declaresToString()).isFalse();
+        assertThat(unit.isRecordLike()).isTrue();
+    }
+
+    @Test
+    void givenStaleGeneratedMetadata_whenUnitIsCreated_thenHasReflectedTraits() {
+        Unit unit = Unit.of(StaleMetadataUnit.class);
+
+        assertThat(unit.declaresEquals()).isFalse();
+        assertThat(unit.declaresHashCode()).isFalse();
+        assertThat(unit.declaresToString()).isFalse();
+        assertThat(unit.isRecordLike()).isTrue();
     }
 
     @Test
@@ -163,6 +268,51 @@ public class UnitIntegrationTest {
         assertThat(Unit.of(MixedMutableAndImmutableFields.class).isImmutable()).isFalse();
     }
 
+    @Test
+    void givenTraits_whenUnitIsCreated_thenHasTraitInformation() {
+        Unit unit = Unit.of(ExampleUnit.class);
+        Unit notOverriding = Unit.of(ExampleUnitNotOverridingObjectMethods.class);
+
+        assertThat(unit.declaresEquals()).isTrue();
+        assertThat(unit.declaresHashCode()).isTrue();
+        assertThat(unit.declaresToString()).isTrue();
+        assertThat(notOverriding.declaresEquals()).isFalse();
+        assertThat(notOverriding.declaresHashCode()).isFalse();
+        assertThat(notOverriding.declaresToString()).isFalse();
+        assertThat(unit.isEnum()).isFalse();
+        assertThat(Unit.of(EnumUnit.class).isEnum()).isTrue();
+        assertThat(unit.isRecordLike()).isFalse();
+        assertThat(Unit.of(RecordLikeUnit.class).isRecordLike()).isTrue();
+        assertThat(Unit.of(EmptyUnit.class).isRecordLike()).isFalse();
+        assertThat(Unit.of(RecordLikeUnit.class).findCanonicalConstructor())
+                .hasValueSatisfying(constructor -> assertThat(constructor.hasParameters(Object.class, int.class))
+                        .isTrue());
+        assertThat(Unit.of(EmptyUnit.class).findCanonicalConstructor()).isEmpty();
+    }
+
+    @Test
+    void givenHierarchy_whenExtendingSuperclass_thenSharesCachedSuperUnit() {
+        Unit unit = Unit.of(ExampleSubUnit.class);
+        Unit otherUnit = Unit.of(ExampleOtherSubUnit.class);
+
+        assertThat(unit.getSuperUnit()).containsSame(Unit.cached(ExampleBaseUnit.class));
+        assertThat(otherUnit.getSuperUnit()).containsSame(Unit.cached(ExampleBaseUnit.class));
+        assertThat(unit.getHierarchy()).containsExactly(unit, Unit.cached(ExampleBaseUnit.class));
+        assertThat(Unit.of(ExampleBaseUnit.class).getSuperUnit()).isEmpty();
+    }
+
+    @Test
+    void givenHierarchy_whenFindingFieldsInHierarchy_thenIncludesInheritedFields() {
+        Unit unit = Unit.of(ExampleSubUnit.class);
+
+        assertThat(unit.findFieldsMatching(Field::isInstanceMember))
+                .extracting(Field::getName)
+                .containsExactly("subField");
+        assertThat(unit.findFieldsInHierarchyMatching(Field::isInstanceMember))
+                .extracting(Field::getName)
+                .containsExactly("subField", "baseField");
+    }
+
     @Test
     void equals_whenIsReference_thenIsEqual() {
         Unit unit = Unit.of(ExampleUnit.class);
@@ -295,6 +445,18 @@ public class UnitIntegrationTest {
         }
     }
 
+    private abstract static class ExampleBaseUnit {
+        private static final Object BASE_CONSTANT = new Object();
+        private Object baseField;
+    }
+
+    private static class ExampleSubUnit extends ExampleBaseUnit {
+        private Object subField;
+    }
+
+    private static class ExampleOtherSubUnit extends ExampleBaseUnit {
+    }
+
     private static class ExampleUnitNotOverridingObjectMethods {
         private static final Object CONSTANT = new Object();
         private Object field;
@@ -310,4 +472,56 @@ public class UnitIntegrationTest {
 
     private static class EmptyUnit {
     }
+
+    static final class MetadataUnit {
+        private final String name;
+
+        MetadataUnit(String name) {
+            this.name = name;
+        }
+
+        String name() {
+            return name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof MetadataUnit && Objects.equals(name, ((MetadataUnit) o).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(name);
+        }
+    }
+
+    static final class StaleMetadataUnit {
+        private final String name;
+
+        StaleMetadataUnit(String name) {
+            this.name = name;
+        }
+
+        String name() {
+            return name;
+        }
+    }
+
+    private static final class RecordLikeUnit {
+        private final Object field;
+        private final int number;
+
+        public RecordLikeUnit(Object field, int number) {
+            this.field = field;
+            this.number = number;
+        }
+
+        public Object field() {
+            return field;
+        }
+
+        public int number() {
+            return number;
+        }
+    }
 }
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection;
+
+import io.github.mattiaspersson09.junisert.common.reflection.metadata.AbstractUnitMetadata;
+
+/**
+ * Hand-written stand-in for stale metadata generated by the metadata processor.
+ */
+public final class UnitIntegrationTest_StaleMetadataUnit_JunisertMetadata extends AbstractUnitMetadata {
+    public UnitIntegrationTest_StaleMetadataUnit_JunisertMetadata() {
+        super(UnitIntegrationTest.StaleMetadataUnit.class);
+        // Generated for an earlier version of the unit, which declared another field and equals and hashCode
+        fields("name", "removed");
+        canonicalConstructor(String.class, String.class);
+        declares(true, true, false);
+    }
+}
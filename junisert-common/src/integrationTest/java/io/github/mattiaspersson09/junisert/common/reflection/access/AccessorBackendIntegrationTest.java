@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.access;
+
+import io.github.mattiaspersson09.junisert.common.reflection.Method;
+import io.github.mattiaspersson09.junisert.common.reflection.Unit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AccessorBackendIntegrationTest {
+    static Stream<AccessorBackend> backends() {
+        return Stream.of(AccessorBackend.reflection(), AccessorBackend.methodHandles(), AccessorBackend.lambdas());
+    }
+
+    @ParameterizedTest
+    @MethodSource("backends")
+    void field_whenInstanceField_thenGetsAndSetsValue(AccessorBackend backend) throws Throwable {
+        FieldAccessor accessor = backend.field(accessible(Members.class.getDeclaredField("value")));
+        Members instance = new Members();
+
+        accessor.set(instance, "value");
+
+        assertThat(accessor.get(instance)).isEqualTo("value");
+    }
+
+    @ParameterizedTest
+    @MethodSource("backends")
+    void field_whenPrimitiveFinalField_thenGetsAndSetsBoxedValue(AccessorBackend backend) throws Throwable {
+        FieldAccessor accessor = backend.field(accessible(Members.class.getDeclaredField("number")));
+        Members instance = new Members();
+
+        accessor.set(instance, 2);
+
+        assertThat(accessor.get(instance)).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @MethodSource("backends")
+    void field_whenStaticField_thenIgnoresInstance(AccessorBackend backend) throws Throwable {
+        FieldAccessor accessor = backend.field(accessible(Members.class.getDeclaredField("CONSTANT")));
+
+        assertThat(accessor.get(null)).isEqualTo("constant");
+        assertThat(accessor.get(new Members())).isEqualTo("constant");
+        assertThatThrownBy(() -> accessor.set(null, "changed")).isInstanceOf(IllegalAccessException.class);
+    }
+
+    @ParameterizedTest
+    @MethodSource("backends")
+    void method_whenInvoked_thenReturnsResult(AccessorBackend backend) throws Throwable {
+        MethodAccessor concat = backend.method(accessible(Members.class.getDeclaredMethod("concat",
+                String.class, int.class)));
+        MethodAccessor count = backend.method(accessible(Members.class.getDeclaredMethod("count", String[].class)));
+        MethodAccessor reset = backend.method(accessible(Members.class.getDeclaredMethod("reset")));
+
+        assertThat(concat.invoke(new Members(), new Object[]{"value", 1})).isEqualTo("value1");
+        assertThat(count.invoke(null, new Object[]{new String[]{"a", "b"}})).isEqualTo(2);
+        assertThat(reset.invoke(new Members(), new Object[0])).isNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("backends")
+    void method_whenGetterOrSetterShaped_thenAccessesState(AccessorBackend backend) throws Throwable {
+        MethodAccessor getter = backend.method(accessible(Members.class.getDeclaredMethod("getValue")));
+        MethodAccessor setter = backend.method(accessible(Members.class.getDeclaredMethod("setValue",
+                String.class)));
+        MethodAccessor builder = backend.method(accessible(Members.class.getDeclaredMethod("withValue",
+                String.class)));
+        Members instance = new Members();
+
+        assertThat(setter.invoke(instance, new Object[]{"value"})).isNull();
+        assertThat(getter.invoke(instance, new Object[0])).isEqualTo("value");
+        assertThat(builder.invoke(instance, new Object[]{"other"})).isSameAs(instance);
+        assertThat(getter.invoke(instance, null)).isEqualTo("other");
+        assertThatThrownBy(() -> getter.invoke(instance, new Object[]{"argument"}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @MethodSource("backends")
+    void constructor_whenDefault_thenCreatesInstance(AccessorBackend backend) throws Throwable {
+        ConstructorAccessor accessor = backend.constructor(accessible(Members.class.getDeclaredConstructor()));
+
+        assertThat(accessor.newInstance(new Object[0])).isInstanceOf(Members.class);
+    }
+
+    @ParameterizedTest
+    @MethodSource("backends")
+    void constructor_whenInvoked_thenCreatesInstance(AccessorBackend backend) throws Throwable {
+        ConstructorAccessor accessor = backend.constructor(accessible(Members.class.getDeclaredConstructor(
+                String.class)));
+
+        assertThat(accessor.newInstance(new Object[]{"value"}))
+                .isInstanceOfSatisfying(Members.class, members -> assertThat(members.value).isEqualTo("value"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("backends")
+    void constructor_whenAbstract_thenFailsOnInvocation(AccessorBackend backend) throws Throwable {
+        ConstructorAccessor accessor = backend.constructor(accessible(AbstractMembers.class.getDeclaredConstructor()));
+
+        assertThatThrownBy(() -> accessor.newInstance(new Object[0])).isInstanceOf(InstantiationException.class);
+    }
+
+    @Test
+    void setDefault_whenMemberIsAlreadyAccessed_thenResolvesAccessorWithNewDefault() {
+        AccessorBackend previous = AccessorBackend.getDefault();
+        AtomicInteger resolved = new AtomicInteger();
+        Method reset = Unit.cached(Members.class).findMethodsNamed("reset").get(0);
+        reset.invoke(new Members());
+
+        try {
+            AccessorBackend.setDefault(new CountingBackend(resolved));
+            reset.invoke(new Members());
+            reset.invoke(new Members());
+        } finally {
+            AccessorBackend.setDefault(previous);
+        }
+
+        assertThat(resolved).hasValue(1);
+    }
+
+    private static <T extends java.lang.reflect.AccessibleObject> T accessible(T member) {
+        member.setAccessible(true);
+        return member;
+    }
+
+    private static class Members {
+        private static final String CONSTANT = "constant";
+        private final int number = 1;
+        private String value;
+
+        private Members() {
+        }
+
+        private Members(String value) {
+            this.value = value;
+        }
+
+        private static int count(String... values) {
+            return values.length;
+        }
+
+        private String concat(String value, int number) {
+            return value + number;
+        }
+
+        private void reset() {
+            value = null;
+        }
+
+        private String getValue() {
+            return value;
+        }
+
+        private void setValue(String value) {
+            this.value = value;
+        }
+
+        private Members withValue(String value) {
+            this.value = value;
+            return this;
+        }
+    }
+
+    private static class CountingBackend implements AccessorBackend {
+        private final AtomicInteger resolved;
+
+        private CountingBackend(AtomicInteger resolved) {
+            this.resolved = resolved;
+        }
+
+        @Override
+        public FieldAccessor field(java.lang.reflect.Field field) {
+            resolved.incrementAndGet();
+            return AccessorBackend.reflection().field(field);
+        }
+
+        @Override
+        public MethodAccessor method(java.lang.reflect.Method method) {
+            resolved.incrementAndGet();
+            return AccessorBackend.reflection().method(method);
+        }
+
+        @Override
+        public ConstructorAccessor constructor(java.lang.reflect.Constructor<?> constructor) {
+            resolved.incrementAndGet();
+            return AccessorBackend.reflection().constructor(constructor);
+        }
+
+        @Override
+        public String name() {
+            return "Counting";
+        }
+    }
+
+    private abstract static class AbstractMembers {
+        AbstractMembers() {
+        }
+    }
+}
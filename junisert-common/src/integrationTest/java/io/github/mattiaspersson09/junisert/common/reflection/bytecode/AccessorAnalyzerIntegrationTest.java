@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.bytecode;
+
+import io.github.mattiaspersson09.junisert.common.reflection.Field;
+import io.github.mattiaspersson09.junisert.common.reflection.Method;
+import io.github.mattiaspersson09.junisert.common.reflection.Unit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccessorAnalyzerIntegrationTest {
+    private final Unit unit = Unit.of(ExampleUnit.class);
+
+    @Test
+    void analyze_whenTrivialGetter_thenReadsField() {
+        assertThat(AccessorAnalyzer.analyze(method("getNumber")))
+                .contains(new FieldAccess(FieldAccess.Kind.READ, ExampleUnit.class.getName(), "number", "J"));
+        assertThat(AccessorAnalyzer.isGetterOf(method("getNumber"), field("number"))).isTrue();
+        assertThat(AccessorAnalyzer.isGetterOf(method("isFlag"), field("flag"))).isTrue();
+        assertThat(AccessorAnalyzer.isGetterOf(method("getValues"), field("values"))).isTrue();
+    }
+
+    @Test
+    void analyze_whenTrivialSetter_thenWritesField() {
+        assertThat(AccessorAnalyzer.analyze(method("setNumber")))
+                .contains(new FieldAccess(FieldAccess.Kind.WRITE, ExampleUnit.class.getName(), "number", "J"));
+        assertThat(AccessorAnalyzer.isSetterOf(method("setNumber"), field("number"))).isTrue();
+        assertThat(AccessorAnalyzer.isSetterOf(method("setFlag"), field("flag"))).isTrue();
+        assertThat(AccessorAnalyzer.isSetterOf(method("withValues"), field("values"))).isTrue();
+    }
+
+    @Test
+    void analyze_whenAccessorIsNotTrivial_thenIsNotAnalyzed() {
+        assertThat(AccessorAnalyzer.analyze(method("getText"))).isEmpty();
+        assertThat(AccessorAnalyzer.analyze(method("setText"))).isEmpty();
+        assertThat(AccessorAnalyzer.analyze(method("copyOf"))).isEmpty();
+        assertThat(AccessorAnalyzer.isGetterOf(method("getText"), field("text"))).isFalse();
+        assertThat(AccessorAnalyzer.isSetterOf(method("setText"), field("text"))).isFalse();
+    }
+
+    @Test
+    void analyze_whenAccessingOtherField_thenIsNotAccessorOfField() {
+        assertThat(AccessorAnalyzer.isGetterOf(method("getOther"), field("other"))).isFalse();
+        assertThat(AccessorAnalyzer.isGetterOf(method("getOther"), field("text"))).isTrue();
+        assertThat(AccessorAnalyzer.isSetterOf(method("getNumber"), field("number"))).isFalse();
+    }
+
+    private Method method(String name) {
+        return unit.findMethodsNamed(name).get(0);
+    }
+
+    private Field field(String name) {
+        return unit.findField(name).orElseThrow(IllegalArgumentException::new);
+    }
+
+    @SuppressWarnings("unused")
+    private static class ExampleUnit {
+        private long number;
+        private boolean flag;
+        private int[] values;
+        private String text;
+        private Object other;
+
+        public long getNumber() {
+            return number;
+        }
+
+        public void setNumber(long number) {
+            this.number = number;
+        }
+
+        public boolean isFlag() {
+            return flag;
+        }
+
+        public void setFlag(boolean flag) {
+            this.flag = flag;
+        }
+
+        public int[] getValues() {
+            return values;
+        }
+
+        public ExampleUnit withValues(int[] values) {
+            this.values = values;
+            return this;
+        }
+
+        public String getText() {
+            return text == null ? "" : text;
+        }
+
+        public void setText(String text) {
+            this.text = text.trim();
+        }
+
+        public Object getOther() {
+            return text;
+        }
+
+        public static long copyOf(ExampleUnit unit) {
+            return unit.number;
+        }
+    }
+}
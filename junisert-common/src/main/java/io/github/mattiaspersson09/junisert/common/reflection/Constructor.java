@@ -15,6 +15,9 @@
  */
 package io.github.mattiaspersson09.junisert.common.reflection;
 
+import io.github.mattiaspersson09.junisert.common.reflection.access.AccessorBackend;
+import io.github.mattiaspersson09.junisert.common.reflection.access.ConstructorAccessor;
+import io.github.mattiaspersson09.junisert.common.reflection.metadata.UnitMetadata;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -22,14 +25,16 @@ import java.util.Objects;
 
 /**
  * Representing a reflected constructor as member of a unit, being a wrapper for {@link java.lang.reflect.Constructor}.
+ * The wrapped constructor is made accessible when this constructor is first invoked, not when it is created, unless generated
+ * {@link UnitMetadata} provides an accessor for it.
  */
 public class Constructor extends ExecutableMember implements Invokable {
     private final java.lang.reflect.Constructor<?> origin;
+    private ResolvedAccessor<ConstructorAccessor> accessor;
 
     Constructor(java.lang.reflect.Constructor<?> origin) {
         super(origin);
         this.origin = origin;
-        this.origin.setAccessible(true);
     }
 
     /**
@@ -65,9 +70,9 @@ public class Constructor extends ExecutableMember implements Invokable {
         }
 
         try {
-            return origin.newInstance(args);
-        } catch (Exception e) {
-            throw new ReflectionException("Unable to invoke constructor with arguments: " + Arrays.toString(args), e);
+            return accessor().newInstance(args);
+        } catch (Throwable e) {
+            throw ReflectionException.wrap("Unable to invoke constructor with arguments: " + Arrays.toString(args), e);
         }
     }
 
@@ -92,6 +97,28 @@ public class Constructor extends ExecutableMember implements Invokable {
 
     @Override
     public String toString() {
-        return String.format("%s(%s)", origin.getDeclaringClass().getSimpleName(), getParameterTypes());
+        return String.format("%s(%s)", origin.getDeclaringClass().getSimpleName(), getSignature());
+    }
+
+    private ConstructorAccessor accessor() {
+        AccessorBackend backend = AccessorBackend.getDefault();
+        ResolvedAccessor<ConstructorAccessor> resolved = accessor;
+
+        if (resolved == null || !resolved.isResolvedWith(backend)) {
+            // Generated accessors invokes members directly, only members without one are forced accessible
+            ConstructorAccessor resolvedAccessor = UnitMetadata.of(getParent())
+                    .flatMap(metadata -> metadata.findConstructorAccessor(getSignature()))
+                    .orElse(null);
+
+            if (resolvedAccessor == null) {
+                origin.setAccessible(true);
+                resolvedAccessor = backend.constructor(origin);
+            }
+
+            resolved = new ResolvedAccessor<>(backend, resolvedAccessor);
+            accessor = resolved;
+        }
+
+        return resolved.get();
     }
 }
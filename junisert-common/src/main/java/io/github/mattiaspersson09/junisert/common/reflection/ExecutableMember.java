@@ -27,6 +27,7 @@ import java.util.stream.Collectors;
  */
 public abstract class ExecutableMember extends Member implements Executable {
     private final List<Parameter> parameters;
+    private volatile Signature signature;
 
     /**
      * Creates a new executable member of given {@code origin}.
@@ -73,9 +74,30 @@ public abstract class ExecutableMember extends Member implements Executable {
 
     @Override
     public List<Class<?>> getParameterTypes() {
-        return parameters.stream()
-                .map(Parameter::getType)
-                .collect(Collectors.toList());
+        return getSignature().asList();
+    }
+
+    @Override
+    public boolean hasParameters(Class<?>... parameters) {
+        return getSignature().matches(parameters);
+    }
+
+    /**
+     * Gets the interned parameter signature of this executable, which is resolved once.
+     *
+     * @return parameter signature
+     */
+    public Signature getSignature() {
+        Signature resolved = signature;
+
+        if (resolved == null) {
+            resolved = Signature.of(parameters.stream()
+                    .map(Parameter::getType)
+                    .collect(Collectors.toList()));
+            signature = resolved;
+        }
+
+        return resolved;
     }
 
     @Override
@@ -94,6 +116,6 @@ public abstract class ExecutableMember extends Member implements Executable {
 
     @Override
     public String toString() {
-        return String.format("%s(%s)", getName(), getParameterTypes());
+        return String.format("%s(%s)", getName(), getSignature());
     }
 }
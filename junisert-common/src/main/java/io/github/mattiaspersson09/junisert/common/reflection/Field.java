@@ -15,20 +15,26 @@
  */
 package io.github.mattiaspersson09.junisert.common.reflection;
 
+import io.github.mattiaspersson09.junisert.common.reflection.access.AccessorBackend;
+import io.github.mattiaspersson09.junisert.common.reflection.access.FieldAccessor;
+import io.github.mattiaspersson09.junisert.common.reflection.metadata.UnitMetadata;
+
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
 
 /**
  * Representing a reflected field as member of a unit, being a wrapper for {@link java.lang.reflect.Field}.
+ * The wrapped field is made accessible when this field is first accessed, not when it is created, unless generated
+ * {@link UnitMetadata} provides an accessor for it.
  */
 public class Field extends Member implements Invokable {
     private final java.lang.reflect.Field origin;
+    private ResolvedAccessor<FieldAccessor> accessor;
 
     Field(java.lang.reflect.Field origin) {
         super(origin);
         this.origin = origin;
-        this.origin.setAccessible(true);
     }
 
     /**
@@ -50,9 +56,9 @@ public class Field extends Member implements Invokable {
      */
     public void setValue(Object unitInstance, Object value) throws ReflectionException {
         try {
-            origin.set(unitInstance, value);
-        } catch (Exception e) {
-            throw new ReflectionException("Unable to set value for field: " + this, e);
+            accessor().set(unitInstance, value);
+        } catch (Throwable e) {
+            throw ReflectionException.wrap("Unable to set value for field: " + this, e);
         }
     }
 
@@ -67,9 +73,9 @@ public class Field extends Member implements Invokable {
      */
     public Object getValue(Object unitInstance) throws ReflectionException {
         try {
-            return origin.get(unitInstance);
-        } catch (Exception e) {
-            throw new ReflectionException("Unable to get value from field: " + this, e);
+            return accessor().get(unitInstance);
+        } catch (Throwable e) {
+            throw ReflectionException.wrap("Unable to get value from field: " + this, e);
         }
     }
 
@@ -246,4 +252,26 @@ public class Field extends Member implements Invokable {
     public String toString() {
         return getType().getSimpleName() + " " + getName();
     }
+
+    private FieldAccessor accessor() {
+        AccessorBackend backend = AccessorBackend.getDefault();
+        ResolvedAccessor<FieldAccessor> resolved = accessor;
+
+        if (resolved == null || !resolved.isResolvedWith(backend)) {
+            // Generated accessors invokes members directly, only members without one are forced accessible
+            FieldAccessor resolvedAccessor = UnitMetadata.of(getParent())
+                    .flatMap(metadata -> metadata.findFieldAccessor(getName()))
+                    .orElse(null);
+
+            if (resolvedAccessor == null) {
+                origin.setAccessible(true);
+                resolvedAccessor = backend.field(origin);
+            }
+
+            resolved = new ResolvedAccessor<>(backend, resolvedAccessor);
+            accessor = resolved;
+        }
+
+        return resolved.get();
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Unmodifiable list of unit members backed by the raw reflected members of a unit. Member wrappers are only
+ * created when first accessed and are then reused, so a unit with many members only pays for the members
+ * actually used. Selections of a member list shares wrappers with the list they were selected from.
+ *
+ * @param <R> raw reflected member
+ * @param <M> member wrapper
+ */
+final class MemberList<R, M extends Member> extends AbstractList<M> implements RandomAccess {
+    private final R[] origins;
+    private final AtomicReferenceArray<M> members;
+    private final Function<R, M> factory;
+    private final int[] positions;
+
+    MemberList(R[] origins, Function<R, M> factory) {
+        this(origins, new AtomicReferenceArray<>(origins.length), factory, null);
+    }
+
+    private MemberList(R[] origins, AtomicReferenceArray<M> members, Function<R, M> factory, int[] positions) {
+        this.origins = Objects.requireNonNull(origins);
+        this.members = members;
+        this.factory = Objects.requireNonNull(factory);
+        this.positions = positions;
+    }
+
+    /**
+     * Selects members at given {@code positions} of this list, in given order.
+     *
+     * @param positions of members in this list
+     * @return selected members sharing wrappers with this list
+     */
+    MemberList<R, M> select(List<Integer> positions) {
+        int[] selected = new int[positions.size()];
+
+        for (int i = 0; i < selected.length; i++) {
+            selected[i] = position(positions.get(i));
+        }
+
+        return new MemberList<>(origins, members, factory, selected);
+    }
+
+    /**
+     * Gets the raw reflected member at {@code index}, without creating the member wrapper.
+     *
+     * @param index of member
+     * @return raw reflected member
+     */
+    R origin(int index) {
+        return origins[position(index)];
+    }
+
+    @Override
+    public M get(int index) {
+        int position = position(index);
+        M member = members.get(position);
+
+        if (member == null) {
+            M created = factory.apply(origins[position]);
+            member = members.compareAndSet(position, null, created) ? created : members.get(position);
+        }
+
+        return member;
+    }
+
+    @Override
+    public int size() {
+        return positions == null ? origins.length : positions.length;
+    }
+
+    // Unmodifiable whether there is anything to modify or not, the same as Collections.unmodifiableList
+
+    @Override
+    public M set(int index, M member) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void add(int index, M member) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public boolean add(M member) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends M> members) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends M> members) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public M remove(int index) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public boolean remove(Object member) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> members) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> members) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super M> filter) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<M> operator) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void sort(Comparator<? super M> comparator) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void clear() {
+        throw unmodifiable();
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        throw unmodifiable();
+    }
+
+    private int position(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        return positions == null ? index : positions[index];
+    }
+
+    private static UnsupportedOperationException unmodifiable() {
+        return new UnsupportedOperationException("Unit members can't be modified");
+    }
+}
@@ -15,19 +15,25 @@
  */
 package io.github.mattiaspersson09.junisert.common.reflection;
 
+import io.github.mattiaspersson09.junisert.common.reflection.access.AccessorBackend;
+import io.github.mattiaspersson09.junisert.common.reflection.access.MethodAccessor;
+import io.github.mattiaspersson09.junisert.common.reflection.metadata.UnitMetadata;
+
 import java.util.Collection;
 import java.util.Objects;
 
 /**
  * Representing a reflected method as member of a unit, being a wrapper for {@link java.lang.reflect.Method}.
+ * The wrapped method is made accessible when this method is first invoked, not when it is created, unless generated
+ * {@link UnitMetadata} provides an accessor for it.
  */
 public class Method extends ExecutableMember implements Invokable {
     private final java.lang.reflect.Method origin;
+    private ResolvedAccessor<MethodAccessor> accessor;
 
     Method(java.lang.reflect.Method origin) {
         super(origin);
         this.origin = origin;
-        this.origin.setAccessible(true);
     }
 
     /**
@@ -243,9 +249,9 @@ public class Method extends ExecutableMember implements Invokable {
     @Override
     public Object invoke(Object instance, Object... args) throws ReflectionException {
         try {
-            return origin.invoke(instance, args);
-        } catch (Exception e) {
-            throw new ReflectionException("Unable to invoke method: " + this, e);
+            return accessor().invoke(instance, args);
+        } catch (Throwable e) {
+            throw ReflectionException.wrap("Unable to invoke method: " + this, e);
         }
     }
 
@@ -267,4 +273,26 @@ public class Method extends ExecutableMember implements Invokable {
     public int hashCode() {
         return Objects.hash(super.hashCode(), origin);
     }
+
+    private MethodAccessor accessor() {
+        AccessorBackend backend = AccessorBackend.getDefault();
+        ResolvedAccessor<MethodAccessor> resolved = accessor;
+
+        if (resolved == null || !resolved.isResolvedWith(backend)) {
+            // Generated accessors invokes members directly, only members without one are forced accessible
+            MethodAccessor resolvedAccessor = UnitMetadata.of(getParent())
+                    .flatMap(metadata -> metadata.findMethodAccessor(getName(), getSignature()))
+                    .orElse(null);
+
+            if (resolvedAccessor == null) {
+                origin.setAccessible(true);
+                resolvedAccessor = backend.method(origin);
+            }
+
+            resolved = new ResolvedAccessor<>(backend, resolvedAccessor);
+            accessor = resolved;
+        }
+
+        return resolved.get();
+    }
 }
@@ -15,6 +15,8 @@
  */
 package io.github.mattiaspersson09.junisert.common.reflection;
 
+import java.lang.reflect.InvocationTargetException;
+
 /**
  * Used when a reflective operation fails and should be unchecked, wrapping reflective cause.
  */
@@ -37,4 +39,25 @@ public class ReflectionException extends RuntimeException {
     public ReflectionException(Throwable cause) {
         super(cause);
     }
+
+    /**
+     * Wraps a failure from invoking a member into a reflection exception. Exceptions thrown by the member itself
+     * is the cause whichever accessor backend invoked it, since only reflection wraps them in an
+     * {@link InvocationTargetException}. Errors are not wrapped and rethrown as they are.
+     *
+     * @param message explaining why reflection failed
+     * @param failure thrown when invoking the member
+     * @return reflection exception to throw
+     */
+    static ReflectionException wrap(String message, Throwable failure) {
+        Throwable cause = failure instanceof InvocationTargetException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+
+        return new ReflectionException(message, cause);
+    }
 }
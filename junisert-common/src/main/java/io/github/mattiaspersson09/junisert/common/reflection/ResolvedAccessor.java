@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection;
+
+import io.github.mattiaspersson09.junisert.common.reflection.access.AccessorBackend;
+
+/**
+ * Accessor of a member together with the backend it was resolved with. Members resolve their accessor again when
+ * the default backend has changed, so that changing backend affects every member, also members already accessed.
+ *
+ * @param <A> type of accessor
+ */
+final class ResolvedAccessor<A> {
+    private final AccessorBackend backend;
+    private final A accessor;
+
+    ResolvedAccessor(AccessorBackend backend, A accessor) {
+        this.backend = backend;
+        this.accessor = accessor;
+    }
+
+    boolean isResolvedWith(AccessorBackend backend) {
+        return this.backend == backend;
+    }
+
+    A get() {
+        return accessor;
+    }
+}
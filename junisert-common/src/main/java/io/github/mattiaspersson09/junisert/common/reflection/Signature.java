@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * Immutable and interned parameter signature of an executable, being parameter types in declaration order.
+ * Equal signatures created with {@link #of(Class[])} are the same instance, and the hash is computed once,
+ * which makes signatures suitable as keys when matching executables.<br>
+ * <br>
+ * Interned signatures are weakly held and will not prevent class loaders of parameter types from being unloaded.
+ */
+public final class Signature {
+    private static final Map<Signature, WeakReference<Signature>> INTERNED = new WeakHashMap<>();
+    private static final Class<?>[] NO_TYPES = new Class<?>[0];
+
+    /**
+     * Signature of executables not having any parameters.
+     */
+    public static final Signature EMPTY = of();
+
+    private final Class<?>[] types;
+    private final int hash;
+    private List<Class<?>> typeList;
+    private String string;
+
+    private Signature(Class<?>[] types) {
+        this.types = types;
+        this.hash = Arrays.hashCode(types);
+    }
+
+    /**
+     * Gets the interned signature of given parameter {@code types}.
+     *
+     * @param types of parameters in declaration order
+     * @return interned signature
+     */
+    public static Signature of(Class<?>... types) {
+        Objects.requireNonNull(types, "signature types can't be null");
+
+        return intern(new Signature(types.length == 0 ? NO_TYPES : types.clone()));
+    }
+
+    /**
+     * Gets the interned signature of given parameter {@code types}.
+     *
+     * @param types of parameters in declaration order
+     * @return interned signature
+     */
+    public static Signature of(List<Class<?>> types) {
+        Objects.requireNonNull(types, "signature types can't be null");
+
+        return intern(new Signature(types.toArray(NO_TYPES)));
+    }
+
+    /**
+     * Creates a non-interned signature sharing given {@code types}, only to be used as a lookup key
+     * and never retained.
+     *
+     * @param types of parameters in declaration order
+     * @return lookup signature
+     */
+    static Signature lookup(Class<?>[] types) {
+        return new Signature(types);
+    }
+
+    private static Signature intern(Signature signature) {
+        synchronized (INTERNED) {
+            WeakReference<Signature> reference = INTERNED.get(signature);
+            Signature interned = reference != null ? reference.get() : null;
+
+            if (interned == null) {
+                INTERNED.put(signature, new WeakReference<>(signature));
+                interned = signature;
+            }
+
+            return interned;
+        }
+    }
+
+    /**
+     * Number of parameters in this signature.
+     *
+     * @return parameter count
+     */
+    public int size() {
+        return types.length;
+    }
+
+    /**
+     * Checks if this signature has no parameters.
+     *
+     * @return true if there are no parameters
+     */
+    public boolean isEmpty() {
+        return types.length == 0;
+    }
+
+    /**
+     * Gets parameter type at given {@code index}.
+     *
+     * @param index of parameter
+     * @return parameter type
+     */
+    public Class<?> get(int index) {
+        return types[index];
+    }
+
+    /**
+     * Checks if this signature is exactly given parameter {@code types} in declaration order, without
+     * allocating.
+     *
+     * @param types to match with
+     * @return true if types matches this signature
+     */
+    public boolean matches(Class<?>... types) {
+        return Arrays.equals(this.types, types);
+    }
+
+    /**
+     * Returns an unmodifiable view of parameter types in declaration order.
+     *
+     * @return unmodifiable view of parameter types
+     */
+    public List<Class<?>> asList() {
+        List<Class<?>> list = typeList;
+
+        if (list == null) {
+            list = Collections.unmodifiableList(Arrays.asList(types));
+            typeList = list;
+        }
+
+        return list;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (object == null || getClass() != object.getClass()) return false;
+        Signature signature = (Signature) object;
+        return hash == signature.hash && Arrays.equals(types, signature.types);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        String rendered = string;
+
+        if (rendered == null) {
+            rendered = asList().toString();
+            string = rendered;
+        }
+
+        return rendered;
+    }
+}
@@ -15,55 +15,258 @@
  */
 package io.github.mattiaspersson09.junisert.common.reflection;
 
+import io.github.mattiaspersson09.junisert.common.reflection.metadata.UnitMetadata;
+import io.github.mattiaspersson09.junisert.common.reflection.util.Methods;
+
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
  * Representing a reflected unit, being a wrapper for unit classes. Is not supported for intentions other than
- * constructing an assertable and testable unit, which were created by the user.
+ * constructing an assertable and testable unit, which were created by the user.<br>
+ * <br>
+ * A unit is immutable once created and can safely be shared, see {@link #cached(Class)} to reuse already
+ * analyzed units instead of reflecting the same class again. Members are indexed when the unit is created,
+ * so lookups by name, parameter count, return type or constructor signature does not scan all members.
+ * Indexes are built from the raw reflected members, member wrappers are only created when first accessed and
+ * members are only made accessible when invoked.
+ * Traits of the unit, such as being immutable or declaring {@code equals}, are also computed once at creation,
+ * taken from generated {@link UnitMetadata} instead of declared methods when present and matching the declared
+ * members. Only traits are taken from metadata, members of a unit are always reflected.
+ * <p>
+ * Members of a unit are the ones declared by the unit itself, inherited members are reached through the
+ * {@link #getHierarchy() hierarchy} of shared super units. A super unit is only analyzed once and then shared
+ * between every subclass.
  */
 public final class Unit implements Reflected {
+    private static final ClassValue<Unit> CACHE = new ClassValue<Unit>() {
+        @Override
+        protected Unit computeValue(Class<?> origin) {
+            return of(origin);
+        }
+    };
+
+    private static final int IMMUTABLE = 1;
+    private static final int DEFAULT_CONSTRUCTOR = 1 << 1;
+    private static final int ARGUMENT_CONSTRUCTOR = 1 << 2;
+    private static final int DECLARES_EQUALS = 1 << 3;
+    private static final int DECLARES_HASH_CODE = 1 << 4;
+    private static final int DECLARES_TO_STRING = 1 << 5;
+    private static final int ENUM = 1 << 6;
+    private static final int RECORD_LIKE = 1 << 7;
+
     private final Class<?> origin;
     private final Modifier modifier;
-    private final List<Field> fields;
-    private final List<Constructor> constructors;
-    private final List<Method> methods;
+    private final MemberList<java.lang.reflect.Field, Field> fields;
+    private final MemberList<java.lang.reflect.Constructor<?>, Constructor> constructors;
+    private final MemberList<java.lang.reflect.Method, Method> methods;
+    private final Map<String, Integer> fieldsByName;
+    private final Map<Signature, Integer> constructorsBySignature;
+    private final Map<String, MemberList<java.lang.reflect.Method, Method>> methodsByName;
+    private final Map<Integer, MemberList<java.lang.reflect.Method, Method>> methodsByParameterCount;
+    private final Map<Class<?>, MemberList<java.lang.reflect.Method, Method>> methodsByReturnType;
+    private final int traits;
+    private volatile Optional<Unit> superUnit;
 
     Unit(Class<?> origin) {
+        this(origin, new java.lang.reflect.Field[0], new java.lang.reflect.Constructor<?>[0],
+             new java.lang.reflect.Method[0]);
+    }
+
+    private Unit(Class<?> origin,
+                 java.lang.reflect.Field[] fields,
+                 java.lang.reflect.Constructor<?>[] constructors,
+                 java.lang.reflect.Method[] methods) {
         this.origin = Objects.requireNonNull(origin, "unit origin can't be null");
         this.modifier = new Modifier(origin.getModifiers());
-        this.fields = new ArrayList<>();
-        this.constructors = new ArrayList<>();
-        this.methods = new ArrayList<>();
+        this.fields = new MemberList<>(fields, Field::new);
+        this.constructors = new MemberList<>(constructors, Constructor::new);
+        this.methods = new MemberList<>(methods, Method::new);
+        this.fieldsByName = indexUnique(fields, java.lang.reflect.Field::getName);
+        this.constructorsBySignature = indexUnique(constructors,
+                                                   constructor -> Signature.of(constructor.getParameterTypes()));
+        this.methodsByName = index(this.methods, java.lang.reflect.Method::getName);
+        this.methodsByParameterCount = index(this.methods, java.lang.reflect.Method::getParameterCount);
+        this.methodsByReturnType = index(this.methods, java.lang.reflect.Method::getReturnType);
+        this.traits = computeTraits();
+    }
+
+    private int computeTraits() {
+        int computed = 0;
+
+        if (instanceFields().noneMatch(field -> !java.lang.reflect.Modifier.isFinal(field.getModifiers()))) {
+            computed |= IMMUTABLE;
+        }
+
+        for (int i = 0; i < constructors.size(); i++) {
+            computed |= constructors.origin(i).getParameterCount() == 0 ? DEFAULT_CONSTRUCTOR : ARGUMENT_CONSTRUCTOR;
+        }
+
+        // Generated metadata already knows what is declared, without inspecting declared methods
+        Optional<UnitMetadata> metadata = UnitMetadata.of(origin).filter(this::matchesDeclaredMembers);
+
+        if (metadata.map(UnitMetadata::declaresEquals)
+                .orElseGet(() -> findMethodsNamed("equals").stream().anyMatch(Methods::isEqualsMethod))) {
+            computed |= DECLARES_EQUALS;
+        }
+
+        if (metadata.map(UnitMetadata::declaresHashCode)
+                .orElseGet(() -> findMethodsNamed("hashCode").stream().anyMatch(Methods::isHashCodeMethod))) {
+            computed |= DECLARES_HASH_CODE;
+        }
+
+        if (metadata.map(UnitMetadata::declaresToString)
+                .orElseGet(() -> findMethodsNamed("toString").stream().anyMatch(Methods::isToStringMethod))) {
+            computed |= DECLARES_TO_STRING;
+        }
+
+        if (origin.isEnum()) {
+            computed |= ENUM;
+        }
+
+        if ((computed & IMMUTABLE) != 0 && computeRecordLike(metadata)) {
+            computed |= RECORD_LIKE;
+        }
+
+        return computed;
+    }
+
+    private boolean computeRecordLike(Optional<UnitMetadata> metadata) {
+        if (Records.isRecord(origin)) {
+            return true;
+        }
+
+        List<java.lang.reflect.Field> components = metadata.isPresent()
+                ? fieldsNamed(metadata.get().getFieldNames())
+                : instanceFields().collect(Collectors.toList());
+
+        if (!modifier.isFinal() || components.isEmpty()) {
+            return false;
+        }
+
+        boolean canonicalConstructor = metadata.isPresent()
+                ? metadata.get().getCanonicalConstructor().isPresent()
+                : constructorsBySignature.containsKey(instanceFieldSignature());
+
+        return canonicalConstructor
+                && components.stream()
+                .allMatch(component -> findMethodsNamed(component.getName()).stream()
+                        .anyMatch(method -> method.hasNoParameters() && method.isProducing(component.getType())));
+    }
+
+    // Metadata generated for an earlier version of the unit is stale and ignored, traits are then reflected
+    private boolean matchesDeclaredMembers(UnitMetadata metadata) {
+        Set<String> fieldNames = instanceFields()
+                .map(java.lang.reflect.Field::getName)
+                .collect(Collectors.toSet());
+
+        return metadata.getFieldNames().size() == fieldNames.size()
+                && fieldNames.containsAll(metadata.getFieldNames())
+                && metadata.getCanonicalConstructor().map(constructorsBySignature::containsKey).orElse(true)
+                && metadata.declaresEquals() == methodsByName.containsKey("equals")
+                && metadata.declaresHashCode() == methodsByName.containsKey("hashCode")
+                && metadata.declaresToString() == methodsByName.containsKey("toString");
+    }
+
+    private List<java.lang.reflect.Field> fieldsNamed(List<String> names) {
+        return names.stream()
+                .map(fieldsByName::get)
+                .filter(Objects::nonNull)
+                .map(fields::origin)
+                .collect(Collectors.toList());
+    }
+
+    private Stream<java.lang.reflect.Field> instanceFields() {
+        return IntStream.range(0, fields.size())
+                .mapToObj(fields::origin)
+                .filter(field -> !java.lang.reflect.Modifier.isStatic(field.getModifiers()) && !field.isSynthetic());
+    }
+
+    private Signature instanceFieldSignature() {
+        return Signature.of(instanceFields()
+                .map(java.lang.reflect.Field::getType)
+                .collect(Collectors.toList()));
+    }
+
+    private static boolean isPlatformClass(Class<?> type) {
+        return type == null
+                || type.getClassLoader() == null
+                || type.getName().startsWith("java.")
+                || type.getName().startsWith("javax.");
+    }
+
+    private boolean hasTrait(int trait) {
+        return (traits & trait) != 0;
+    }
+
+    private static <K, R> Map<K, Integer> indexUnique(R[] members, Function<R, K> key) {
+        Map<K, Integer> index = new LinkedHashMap<>();
+
+        for (int i = 0; i < members.length; i++) {
+            index.putIfAbsent(key.apply(members[i]), i);
+        }
+
+        return Collections.unmodifiableMap(index);
+    }
+
+    private static <K, R, M extends Member> Map<K, MemberList<R, M>> index(MemberList<R, M> members,
+                                                                          Function<R, K> key) {
+        Map<K, List<Integer>> positions = new LinkedHashMap<>();
+
+        for (int i = 0; i < members.size(); i++) {
+            positions.computeIfAbsent(key.apply(members.origin(i)), k -> new ArrayList<>(1)).add(i);
+        }
+
+        Map<K, MemberList<R, M>> index = new LinkedHashMap<>();
+        positions.forEach((k, indexed) -> index.put(k, members.select(indexed)));
+
+        return Collections.unmodifiableMap(index);
+    }
+
+    private static <K, M> List<M> indexed(Map<K, ? extends List<M>> index, K key) {
+        List<M> found = index.get(key);
+
+        return found == null ? Collections.emptyList() : found;
     }
 
     /**
      * Creates a new unit from an origin class created by the user, to be used for assertion and tests.
+     * Members are only wrapped when first accessed and are not made accessible until invoked.
      *
      * @param origin of unit
      * @return new testable unit
+     * @see #cached(Class)
      */
     public static Unit of(Class<?> origin) {
-        Unit unit = new Unit(origin);
+        Objects.requireNonNull(origin, "unit origin can't be null");
 
-        Stream.of(origin.getDeclaredConstructors())
-                .map(Constructor::new)
-                .forEach(unit.constructors::add);
-
-        Stream.of(origin.getDeclaredFields())
-                .map(Field::new)
-                .forEach(unit.fields::add);
-
-        Stream.of(origin.getDeclaredMethods())
-                .map(Method::new)
-                .forEach(unit.methods::add);
+        return new Unit(origin, origin.getDeclaredFields(), origin.getDeclaredConstructors(),
+                        origin.getDeclaredMethods());
+    }
 
-        return unit;
+    /**
+     * Gets a shared unit for an origin class created by the user, to be used for assertion and tests.
+     * The unit is only created once per origin class and then reused, the cache is tied to the origin class
+     * and will not prevent its class loader from being unloaded.
+     *
+     * @param origin of unit
+     * @return shared testable unit
+     * @see #of(Class)
+     */
+    public static Unit cached(Class<?> origin) {
+        return CACHE.get(Objects.requireNonNull(origin, "unit origin can't be null"));
     }
 
     /**
@@ -72,7 +275,7 @@ public final class Unit implements Reflected {
      * @return unmodifiable view of declared fields
      */
     public List<Field> getFields() {
-        return Collections.unmodifiableList(fields);
+        return fields;
     }
 
     /**
@@ -81,7 +284,7 @@ public final class Unit implements Reflected {
      * @return unmodifiable view of declared constructors
      */
     public List<Constructor> getConstructors() {
-        return Collections.unmodifiableList(constructors);
+        return constructors;
     }
 
     /**
@@ -90,7 +293,61 @@ public final class Unit implements Reflected {
      * @return unmodifiable view of declared methods
      */
     public List<Method> getMethods() {
-        return Collections.unmodifiableList(methods);
+        return methods;
+    }
+
+    /**
+     * Gets the shared unit of the superclass, which is analyzed once and reused by every subclass.
+     * Platform classes, such as {@link Object}, are not analyzed and ends the hierarchy.
+     *
+     * @return shared super unit or empty if superclass is a platform class
+     * @see #getHierarchy()
+     */
+    public Optional<Unit> getSuperUnit() {
+        Optional<Unit> resolved = superUnit;
+
+        if (resolved == null) {
+            Class<?> superclass = origin.getSuperclass();
+            resolved = isPlatformClass(superclass) ? Optional.empty() : Optional.of(cached(superclass));
+            superUnit = resolved;
+        }
+
+        return resolved;
+    }
+
+    /**
+     * Gets this unit followed by every super unit, ordered from this unit up to the last non-platform superclass.
+     *
+     * @return unit hierarchy starting with this unit
+     * @see #getSuperUnit()
+     */
+    public List<Unit> getHierarchy() {
+        List<Unit> hierarchy = new ArrayList<>();
+        Optional<Unit> current = Optional.of(this);
+
+        while (current.isPresent()) {
+            hierarchy.add(current.get());
+            current = current.get().getSuperUnit();
+        }
+
+        return hierarchy;
+    }
+
+    /**
+     * Finds fields declared by this unit or inherited from any super unit, which matches given {@code predicate}.
+     * Fields declared by this unit comes first, followed by fields of every super unit in hierarchy order.
+     *
+     * @param predicate to match fields with
+     * @return view of declared and inherited fields matching given predicate
+     * @see #getHierarchy()
+     */
+    public List<Field> findFieldsInHierarchyMatching(Predicate<Field> predicate) {
+        Objects.requireNonNull(predicate);
+
+        return getHierarchy().stream()
+                .flatMap(unit -> unit.fields.stream())
+                .filter(predicate)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -109,8 +366,19 @@ public final class Unit implements Reflected {
      * @return true if declared field with given name is present
      */
     public boolean hasField(String name) {
-        return fields.stream()
-                .anyMatch(field -> field.getName().equals(name));
+        return fieldsByName.containsKey(name);
+    }
+
+    /**
+     * Finds field declared by this unit with {@code name}.
+     *
+     * @param name of declared field
+     * @return declared field with given name or empty if not present
+     */
+    public Optional<Field> findField(String name) {
+        Integer position = fieldsByName.get(name);
+
+        return position == null ? Optional.empty() : Optional.of(fields.get(position));
     }
 
     /**
@@ -146,8 +414,7 @@ public final class Unit implements Reflected {
      * @return true if a default constructor is present
      */
     public boolean hasDefaultConstructor() {
-        return constructors.stream()
-                .anyMatch(Constructor::isDefault);
+        return hasTrait(DEFAULT_CONSTRUCTOR);
     }
 
     /**
@@ -156,8 +423,7 @@ public final class Unit implements Reflected {
      * @return true if no default constructor is present
      */
     public boolean hasNoDefaultConstructor() {
-        return constructors.stream()
-                .noneMatch(Constructor::isDefault);
+        return !hasTrait(DEFAULT_CONSTRUCTOR);
     }
 
     /**
@@ -166,8 +432,7 @@ public final class Unit implements Reflected {
      * @return true if a constructor accepting arguments is present
      */
     public boolean hasArgumentConstructor() {
-        return constructors.stream()
-                .anyMatch(constructor -> !constructor.isDefault());
+        return hasTrait(ARGUMENT_CONSTRUCTOR);
     }
 
     /**
@@ -183,6 +448,46 @@ public final class Unit implements Reflected {
                 .anyMatch(predicate);
     }
 
+    /**
+     * Finds constructor declared by this unit with exactly given {@code parameterTypes}, in declared order.
+     *
+     * @param parameterTypes of declared constructor
+     * @return declared constructor with given parameter types or empty if not present
+     */
+    public Optional<Constructor> findConstructor(Class<?>... parameterTypes) {
+        return findConstructor(Signature.lookup(parameterTypes));
+    }
+
+    /**
+     * Finds constructor declared by this unit with exactly given {@code signature}.
+     *
+     * @param signature of declared constructor
+     * @return declared constructor with given signature or empty if not present
+     */
+    public Optional<Constructor> findConstructor(Signature signature) {
+        Integer position = constructorsBySignature.get(signature);
+
+        return position == null ? Optional.empty() : Optional.of(constructors.get(position));
+    }
+
+    /**
+     * Finds the canonical constructor of this unit, if this unit is {@link #isRecordLike() record-like}.
+     * The canonical constructor of a record accepts every record component in declared order, and for other
+     * record-like units every instance field in declared order.
+     *
+     * @return canonical constructor or empty if this unit is not record-like
+     * @see #isRecordLike()
+     */
+    public Optional<Constructor> findCanonicalConstructor() {
+        if (!isRecordLike()) {
+            return Optional.empty();
+        }
+
+        Class<?>[] componentTypes = Records.componentTypes(origin);
+
+        return findConstructor(componentTypes != null ? Signature.of(componentTypes) : instanceFieldSignature());
+    }
+
     /**
      * Finds constructors declared by this unit which matches given {@code predicate}.
      *
@@ -213,8 +518,96 @@ public final class Unit implements Reflected {
      * @return true if declared method with given name is present
      */
     public boolean hasMethod(String name) {
-        return methods.stream()
-                .anyMatch(method -> method.getName().equals(name));
+        return methodsByName.containsKey(name);
+    }
+
+    /**
+     * Finds method declared by this unit with {@code name} and exactly given {@code parameterTypes},
+     * in declared order.
+     *
+     * @param name           of declared method
+     * @param parameterTypes of declared method
+     * @return declared method with given name and parameter types or empty if not present
+     */
+    public Optional<Method> findMethod(String name, Class<?>... parameterTypes) {
+        return findMethod(name, Signature.lookup(parameterTypes));
+    }
+
+    /**
+     * Finds method declared by this unit with {@code name} and exactly given {@code signature}.
+     *
+     * @param name      of declared method
+     * @param signature of declared method
+     * @return declared method with given name and signature or empty if not present
+     */
+    public Optional<Method> findMethod(String name, Signature signature) {
+        Objects.requireNonNull(signature);
+
+        MemberList<java.lang.reflect.Method, Method> named = methodsByName.get(name);
+        Method bridge = null;
+
+        for (int i = 0; named != null && i < named.size(); i++) {
+            java.lang.reflect.Method method = named.origin(i);
+
+            if (method.getParameterCount() == signature.size() && signature.matches(method.getParameterTypes())) {
+                // Bridge methods shares signature with the method they bridge, the declared method is preferred
+                if (!method.isSynthetic()) {
+                    return Optional.of(named.get(i));
+                }
+
+                bridge = bridge == null ? named.get(i) : bridge;
+            }
+        }
+
+        return Optional.ofNullable(bridge);
+    }
+
+    /**
+     * Finds methods declared by this unit with {@code name}, overloaded methods share the same name.
+     *
+     * @param name of declared methods
+     * @return unmodifiable view of declared methods with given name
+     */
+    public List<Method> findMethodsNamed(String name) {
+        return indexed(methodsByName, name);
+    }
+
+    /**
+     * Finds methods declared by this unit with any of given {@code names}, in order of given names.
+     *
+     * @param names of declared methods
+     * @return view of declared methods with any of given names
+     */
+    public List<Method> findMethodsNamed(Collection<String> names) {
+        Objects.requireNonNull(names);
+
+        List<Method> found = new ArrayList<>();
+
+        for (String name : names) {
+            found.addAll(findMethodsNamed(name));
+        }
+
+        return found;
+    }
+
+    /**
+     * Finds methods declared by this unit accepting exactly {@code count} number of arguments.
+     *
+     * @param count of parameters
+     * @return unmodifiable view of declared methods with given parameter count
+     */
+    public List<Method> findMethodsWithParameterCount(int count) {
+        return indexed(methodsByParameterCount, count);
+    }
+
+    /**
+     * Finds methods declared by this unit with exactly given return {@code type}.
+     *
+     * @param type returned by declared methods
+     * @return unmodifiable view of declared methods with given return type
+     */
+    public List<Method> findMethodsReturning(Class<?> type) {
+        return indexed(methodsByReturnType, type);
     }
 
     /**
@@ -251,7 +644,68 @@ public final class Unit implements Reflected {
      * @return true if this unit is considered immutable
      */
     public boolean isImmutable() {
-        return !hasFieldMatching(field -> field.isInstanceMember() && !field.isImmutable());
+        return hasTrait(IMMUTABLE);
+    }
+
+    /**
+     * Checks if this unit declares an override of {@link Object#equals(Object)}.
+     *
+     * @return true if this unit declares equals
+     * @see Methods#isEqualsMethod(Method)
+     */
+    public boolean declaresEquals() {
+        return hasTrait(DECLARES_EQUALS);
+    }
+
+    /**
+     * Checks if this unit declares an override of {@link Object#hashCode()}.
+     *
+     * @return true if this unit declares hashCode
+     * @see Methods#isHashCodeMethod(Method)
+     */
+    public boolean declaresHashCode() {
+        return hasTrait(DECLARES_HASH_CODE);
+    }
+
+    /**
+     * Checks if this unit declares an override of {@link Object#toString()}.
+     *
+     * @return true if this unit declares toString
+     * @see Methods#isToStringMethod(Method)
+     */
+    public boolean declaresToString() {
+        return hasTrait(DECLARES_TO_STRING);
+    }
+
+    /**
+     * Checks if this unit is an enum.
+     *
+     * @return true if this unit is an enum
+     */
+    public boolean isEnum() {
+        return hasTrait(ENUM);
+    }
+
+    /**
+     * Checks if this unit is record-like, meaning it's either a record or a final and immutable unit with a
+     * canonical constructor accepting every instance field in declared order, and a record style accessor
+     * for every instance field.
+     * <p>
+     * Example pseudo record-like unit:
+     * <pre>
+     * public final class Point {
+     *     private final int x;
+     *
+     *     public Point(int x) { this.x = x; }
+     *
+     *     public int x() { return x; }
+     * }
+     * </pre>
+     *
+     * @return true if this unit is record-like
+     */
+    public boolean isRecordLike() {
+        return hasTrait(RECORD_LIKE);
     }
 
     @Override
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.access;
+
+import java.util.Objects;
+
+/**
+ * Backend resolving accessors for reflected members. Accessors are resolved once per member and then reused
+ * for every access, so a backend is free to do expensive preparations when resolving.<br>
+ * <br>
+ * The default backend is {@link #methodHandles()}, which falls back to {@link #reflection()} for members
+ * that can't be accessed through method handles. The default can be changed with
+ * {@link #setDefault(AccessorBackend)}, which affects every member the next time it's accessed.
+ */
+public interface AccessorBackend {
+    /**
+     * Resolves an accessor for given {@code field}, which has been made accessible.
+     *
+     * @param field to access
+     * @return field accessor
+     */
+    FieldAccessor field(java.lang.reflect.Field field);
+
+    /**
+     * Resolves an accessor for given {@code method}, which has been made accessible.
+     *
+     * @param method to invoke
+     * @return method accessor
+     */
+    MethodAccessor method(java.lang.reflect.Method method);
+
+    /**
+     * Resolves an accessor for given {@code constructor}, which has been made accessible.
+     *
+     * @param constructor to invoke
+     * @return constructor accessor
+     */
+    ConstructorAccessor constructor(java.lang.reflect.Constructor<?> constructor);
+
+    /**
+     * Name of this backend.
+     *
+     * @return name of this backend
+     */
+    String name();
+
+    /**
+     * Gets the backend members resolve their accessors with.
+     *
+     * @return default backend
+     */
+    static AccessorBackend getDefault() {
+        return DefaultAccessorBackend.backend;
+    }
+
+    /**
+     * Sets the backend members resolve their accessors with. Members already accessed resolves their accessors
+     * again with this backend the next time they're accessed, also members of cached units.
+     *
+     * @param backend to use as default
+     */
+    static void setDefault(AccessorBackend backend) {
+        DefaultAccessorBackend.backend = Objects.requireNonNull(backend, "accessor backend can't be null");
+    }
+
+    /**
+     * Backend using core reflection for every access, which is the most permissive but slowest backend.
+     *
+     * @return reflection backend
+     */
+    static AccessorBackend reflection() {
+        return ReflectionAccessorBackend.INSTANCE;
+    }
+
+    /**
+     * Backend using {@link java.lang.invoke.MethodHandle}'s adapted to generic shapes, falling back to
+     * reflection for members that can't be unreflected.
+     *
+     * @return method handle backend
+     */
+    static AccessorBackend methodHandles() {
+        return MethodHandleAccessorBackend.INSTANCE;
+    }
+
+    /**
+     * Opt-in backend spinning functional interface implementations with
+     * {@link java.lang.invoke.LambdaMetafactory}, which the JIT can inline through when the same members are
+     * accessed many times. Instance getters are implemented as {@link java.util.function.Function},
+     * single argument methods as {@link java.util.function.BiConsumer} or {@link java.util.function.BiFunction}
+     * and default constructors as {@link java.util.function.Supplier}.<br>
+     * <br>
+     * Fields and other members fall back to {@link #methodHandles()}, as does every member when running on
+     * Java 8, where private members can't be implemented by lambdas.
+     *
+     * @return lambda backend
+     */
+    static AccessorBackend lambdas() {
+        return LambdaAccessorBackend.INSTANCE;
+    }
+}
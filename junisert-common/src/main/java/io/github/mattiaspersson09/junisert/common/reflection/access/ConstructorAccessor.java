@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.access;
+
+/**
+ * Invoking a reflected constructor, resolved once per constructor by an {@link AccessorBackend}.
+ */
+public interface ConstructorAccessor {
+    /**
+     * Constructs a new instance with the constructor.
+     *
+     * @param args to construct with, matching the declared parameters
+     * @return new instance
+     * @throws Throwable if the constructor could not be invoked or threw itself
+     */
+    Object newInstance(Object[] args) throws Throwable;
+}
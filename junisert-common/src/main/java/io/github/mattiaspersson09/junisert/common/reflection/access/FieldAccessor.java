@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.access;
+
+/**
+ * Accessing state of a reflected field, resolved once per field by an {@link AccessorBackend}.
+ */
+public interface FieldAccessor {
+    /**
+     * Gets current value of the field from given {@code instance}, which is ignored for static fields.
+     *
+     * @param instance owning the field
+     * @return current value of the field
+     * @throws Throwable if the field could not be accessed
+     */
+    Object get(Object instance) throws Throwable;
+
+    /**
+     * Sets value of the field for given {@code instance}, which is ignored for static fields.
+     *
+     * @param instance owning the field
+     * @param value    to set
+     * @throws Throwable if the field could not be updated
+     */
+    void set(Object instance, Object value) throws Throwable;
+}
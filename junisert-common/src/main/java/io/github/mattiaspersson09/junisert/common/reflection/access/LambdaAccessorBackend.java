@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.access;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+final class LambdaAccessorBackend implements AccessorBackend {
+    static final LambdaAccessorBackend INSTANCE = new LambdaAccessorBackend();
+
+    private static final MethodType FUNCTION = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType BI_CONSUMER = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType BI_FUNCTION = MethodType.methodType(Object.class, Object.class, Object.class);
+    private static final MethodType SUPPLIER = MethodType.methodType(Object.class);
+
+    private LambdaAccessorBackend() {
+    }
+
+    @Override
+    public FieldAccessor field(java.lang.reflect.Field field) {
+        // Field handles can't be implemented by lambdas, method handles are the closest alternative
+        return MethodHandleAccessorBackend.INSTANCE.field(field);
+    }
+
+    @Override
+    public MethodAccessor method(java.lang.reflect.Method method) {
+        if (!Lookups.isPrivateLookupSupported() || Modifier.isStatic(method.getModifiers()) || method.isVarArgs()
+                || method.getParameterCount() > 1
+                || (method.getParameterCount() == 0 && method.getReturnType() == void.class)) {
+            return MethodHandleAccessorBackend.INSTANCE.method(method);
+        }
+
+        try {
+            MethodHandles.Lookup lookup = Lookups.privateLookupIn(method.getDeclaringClass());
+            MethodHandle target = lookup.unreflect(method);
+
+            if (method.getParameterCount() == 0) {
+                Function<Object, Object> getter = spin(lookup, target, Function.class, "apply", FUNCTION);
+
+                return (instance, args) -> {
+                    checkArguments(args, 0);
+                    return getter.apply(instance);
+                };
+            }
+
+            if (method.getReturnType() == void.class) {
+                BiConsumer<Object, Object> setter = spin(lookup, target, BiConsumer.class, "accept", BI_CONSUMER);
+
+                return (instance, args) -> {
+                    checkArguments(args, 1);
+                    setter.accept(instance, args[0]);
+                    return null;
+                };
+            }
+
+            BiFunction<Object, Object, Object> function = spin(lookup, target, BiFunction.class, "apply", BI_FUNCTION);
+
+            return (instance, args) -> {
+                checkArguments(args, 1);
+                return function.apply(instance, args[0]);
+            };
+        } catch (Throwable e) {
+            return MethodHandleAccessorBackend.INSTANCE.method(method);
+        }
+    }
+
+    @Override
+    public ConstructorAccessor constructor(java.lang.reflect.Constructor<?> constructor) {
+        Class<?> declaringClass = constructor.getDeclaringClass();
+
+        if (!Lookups.isPrivateLookupSupported() || constructor.getParameterCount() > 0
+                || Modifier.isAbstract(declaringClass.getModifiers())) {
+            return MethodHandleAccessorBackend.INSTANCE.constructor(constructor);
+        }
+
+        try {
+            MethodHandles.Lookup lookup = Lookups.privateLookupIn(declaringClass);
+            Supplier<Object> supplier = spin(lookup, lookup.unreflectConstructor(constructor),
+                    Supplier.class, "get", SUPPLIER);
+
+            return args -> {
+                checkArguments(args, 0);
+                return supplier.get();
+            };
+        } catch (Throwable e) {
+            return MethodHandleAccessorBackend.INSTANCE.constructor(constructor);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "Lambdas";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T spin(MethodHandles.Lookup lookup,
+                              MethodHandle target,
+                              Class<?> functionalInterface,
+                              String name,
+                              MethodType erasedType) throws Throwable {
+        MethodType targetType = target.type();
+        MethodType instantiatedType = targetType.wrap();
+
+        if (targetType.returnType() == void.class) {
+            instantiatedType = instantiatedType.changeReturnType(void.class);
+        }
+
+        return (T) LambdaMetafactory.metafactory(lookup,
+                        name,
+                        MethodType.methodType(functionalInterface),
+                        erasedType,
+                        target,
+                        instantiatedType)
+                .getTarget()
+                .invoke();
+    }
+
+    private static void checkArguments(Object[] args, int count) {
+        int length = args == null ? 0 : args.length;
+
+        if (length != count) {
+            throw new IllegalArgumentException("wrong number of arguments: " + length + " expected: " + count);
+        }
+    }
+}
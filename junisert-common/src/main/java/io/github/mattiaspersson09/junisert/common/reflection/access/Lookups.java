@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.access;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Resolves private lookups, which is needed to define lambdas for private members. This is the Java 8 variant,
+ * which looks up {@code MethodHandles.privateLookupIn} reflectively since it's only available from Java 9.
+ * Java 9 and later runtimes use the variant in {@code META-INF/versions/9} instead.
+ */
+final class Lookups {
+    private static final MethodHandle PRIVATE_LOOKUP_IN = findPrivateLookupIn();
+
+    private Lookups() {
+    }
+
+    /**
+     * Checks if private lookups are supported by the current runtime.
+     *
+     * @return true if private lookups are supported
+     */
+    static boolean isPrivateLookupSupported() {
+        return PRIVATE_LOOKUP_IN != null;
+    }
+
+    /**
+     * Gets a lookup with private access to given {@code type}.
+     *
+     * @param type to access
+     * @return lookup with private access to given type
+     * @throws Throwable if private lookups are not supported or access to type is not permitted
+     */
+    static MethodHandles.Lookup privateLookupIn(Class<?> type) throws Throwable {
+        if (PRIVATE_LOOKUP_IN == null) {
+            throw new UnsupportedOperationException("Private lookups are not supported by this runtime");
+        }
+
+        return (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invokeExact(type, MethodHandles.lookup());
+    }
+
+    private static MethodHandle findPrivateLookupIn() {
+        try {
+            return MethodHandles.publicLookup()
+                    .findStatic(MethodHandles.class, "privateLookupIn", MethodType.methodType(
+                            MethodHandles.Lookup.class, Class.class, MethodHandles.Lookup.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.access;
+
+/**
+ * Invoking a reflected method, resolved once per method by an {@link AccessorBackend}.
+ */
+public interface MethodAccessor {
+    /**
+     * Invokes the method on given {@code instance}, which is ignored for static methods.
+     *
+     * @param instance to invoke the method on
+     * @param args     to invoke the method with, matching the declared parameters
+     * @return result of the invocation or null if the method is void
+     * @throws Throwable if the method could not be invoked or threw itself
+     */
+    Object invoke(Object instance, Object[] args) throws Throwable;
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.access;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+
+final class MethodHandleAccessorBackend implements AccessorBackend {
+    static final MethodHandleAccessorBackend INSTANCE = new MethodHandleAccessorBackend();
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType INVOKER = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(Object.class, Object[].class);
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    private MethodHandleAccessorBackend() {
+    }
+
+    @Override
+    public FieldAccessor field(java.lang.reflect.Field field) {
+        MethodHandle getter = unreflectGetter(field);
+        MethodHandle setter = unreflectSetter(field);
+        FieldAccessor fallback = ReflectionAccessorBackend.INSTANCE.field(field);
+
+        return new FieldAccessor() {
+            @Override
+            public Object get(Object instance) throws Throwable {
+                return getter != null ? (Object) getter.invokeExact(instance) : fallback.get(instance);
+            }
+
+            @Override
+            public void set(Object instance, Object value) throws Throwable {
+                if (setter != null) {
+                    setter.invokeExact(instance, value);
+                } else {
+                    fallback.set(instance, value);
+                }
+            }
+        };
+    }
+
+    @Override
+    public MethodAccessor method(java.lang.reflect.Method method) {
+        try {
+            MethodHandle handle = lookup.unreflect(method).asFixedArity();
+
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+
+            MethodHandle invoker = handle
+                    .asType(MethodType.genericMethodType(method.getParameterCount() + 1))
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(INVOKER);
+
+            return (instance, args) -> (Object) invoker.invokeExact(instance, args);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return ReflectionAccessorBackend.INSTANCE.method(method);
+        }
+    }
+
+    @Override
+    public ConstructorAccessor constructor(java.lang.reflect.Constructor<?> constructor) {
+        try {
+            MethodHandle invoker = lookup.unreflectConstructor(constructor)
+                    .asFixedArity()
+                    .asType(MethodType.genericMethodType(constructor.getParameterCount()))
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(CONSTRUCTOR);
+
+            return args -> (Object) invoker.invokeExact(args);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return ReflectionAccessorBackend.INSTANCE.constructor(constructor);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "Method handles";
+    }
+
+    private MethodHandle unreflectGetter(java.lang.reflect.Field field) {
+        try {
+            MethodHandle getter = lookup.unreflectGetter(field);
+
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+
+            return getter.asType(GETTER);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private MethodHandle unreflectSetter(java.lang.reflect.Field field) {
+        try {
+            MethodHandle setter = lookup.unreflectSetter(field);
+
+            if (Modifier.isStatic(field.getModifiers())) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+
+            return setter.asType(SETTER);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+}
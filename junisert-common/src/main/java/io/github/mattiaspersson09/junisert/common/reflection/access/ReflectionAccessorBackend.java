@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.access;
+
+final class ReflectionAccessorBackend implements AccessorBackend {
+    static final ReflectionAccessorBackend INSTANCE = new ReflectionAccessorBackend();
+
+    private ReflectionAccessorBackend() {
+    }
+
+    @Override
+    public FieldAccessor field(java.lang.reflect.Field field) {
+        return new FieldAccessor() {
+            @Override
+            public Object get(Object instance) throws IllegalAccessException {
+                return field.get(instance);
+            }
+
+            @Override
+            public void set(Object instance, Object value) throws IllegalAccessException {
+                field.set(instance, value);
+            }
+        };
+    }
+
+    @Override
+    public MethodAccessor method(java.lang.reflect.Method method) {
+        return method::invoke;
+    }
+
+    @Override
+    public ConstructorAccessor constructor(java.lang.reflect.Constructor<?> constructor) {
+        return constructor::newInstance;
+    }
+
+    @Override
+    public String name() {
+        return "Reflection";
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.bytecode;
+
+import io.github.mattiaspersson09.junisert.common.reflection.Field;
+import io.github.mattiaspersson09.junisert.common.reflection.Method;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Analyzes accessor methods from their bytecode, without creating any instance of the unit declaring them.
+ * The class file of a unit is read once and only trivial accessors are recognized, for which the bytecode alone
+ * proves which field is accessed:
+ * <pre>
+ * Getter:        aload_0; getfield; return
+ * Setter:        aload_0; load_1; putfield; return
+ * Fluent setter: aload_0; load_1; putfield; aload_0; areturn
+ * </pre>
+ * Anything else, such as conversions, validation or defensive copies, is not analyzed and should be verified
+ * by invoking the accessor instead. Units without a readable class file, such as generated classes, have no
+ * analyzed accessors.
+ */
+public final class AccessorAnalyzer {
+    private static final ClassValue<Map<String, FieldAccess>> ACCESSES = new ClassValue<Map<String, FieldAccess>>() {
+        @Override
+        protected Map<String, FieldAccess> computeValue(Class<?> type) {
+            return analyze(type);
+        }
+    };
+
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ILOAD_1 = 0x1b;
+    private static final int LLOAD_1 = 0x1f;
+    private static final int FLOAD_1 = 0x23;
+    private static final int DLOAD_1 = 0x27;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int IRETURN = 0xac;
+    private static final int LRETURN = 0xad;
+    private static final int FRETURN = 0xae;
+    private static final int DRETURN = 0xaf;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int GETFIELD = 0xb4;
+    private static final int PUTFIELD = 0xb5;
+
+    private AccessorAnalyzer() {
+    }
+
+    /**
+     * Analyzes which field given {@code method} accesses, if the bytecode of the method proves it's a trivial
+     * accessor of a single instance field.
+     *
+     * @param method to analyze
+     * @return proven field access or empty if method is not a trivial accessor
+     */
+    public static Optional<FieldAccess> analyze(Method method) {
+        Objects.requireNonNull(method);
+
+        String key = method.getName() + Descriptors.ofMethod(method.getParameterTypes(), method.getType());
+
+        return Optional.ofNullable(ACCESSES.get(method.getParent()).get(key));
+    }
+
+    /**
+     * Checks if the bytecode of given {@code method} proves it only reads given {@code field} and returns it.
+     *
+     * @param method to analyze
+     * @param field  expected to be read
+     * @return true if method is proven to be a getter of field
+     */
+    public static boolean isGetterOf(Method method, Field field) {
+        return analyze(method)
+                .filter(access -> access.getKind() == FieldAccess.Kind.READ && access.isOf(field))
+                .isPresent();
+    }
+
+    /**
+     * Checks if the bytecode of given {@code method} proves it only writes its argument to given {@code field}.
+     *
+     * @param method to analyze
+     * @param field  expected to be written
+     * @return true if method is proven to be a setter of field
+     */
+    public static boolean isSetterOf(Method method, Field field) {
+        return analyze(method)
+                .filter(access -> access.getKind() == FieldAccess.Kind.WRITE && access.isOf(field))
+                .isPresent();
+    }
+
+    private static Map<String, FieldAccess> analyze(Class<?> type) {
+        try (InputStream input = type.getResourceAsStream("/" + type.getName().replace('.', '/') + ".class")) {
+            if (input == null) {
+                return Collections.emptyMap();
+            }
+
+            ClassFile classFile = ClassFile.read(new BufferedInputStream(input));
+            Map<String, FieldAccess> accesses = new HashMap<>();
+
+            classFile.getMethods().forEach((key, code) -> {
+                FieldAccess access = match(classFile, code);
+
+                if (access != null) {
+                    accesses.put(key, access);
+                }
+            });
+
+            return Collections.unmodifiableMap(accesses);
+        } catch (IOException | RuntimeException e) {
+            // Unreadable class files are not analyzed, accessors are then verified by invoking them instead
+            return Collections.emptyMap();
+        }
+    }
+
+    private static FieldAccess match(ClassFile classFile, ClassFile.MethodCode code) {
+        if (code.isStatic() || code.length() < 5 || code.opcode(0) != ALOAD_0) {
+            return null;
+        }
+
+        String descriptor = code.getDescriptor();
+        int parametersEnd = descriptor.indexOf(')');
+
+        if (code.length() == 5 && parametersEnd == 1 && code.opcode(1) == GETFIELD) {
+            return matchGetter(classFile, code, code.unsignedShort(2));
+        }
+
+        String parameter = descriptor.substring(1, parametersEnd);
+        String returned = descriptor.substring(parametersEnd + 1);
+
+        if (!isSingleType(parameter) || code.opcode(1) != loadOpcode(parameter) || code.opcode(2) != PUTFIELD) {
+            return null;
+        }
+
+        boolean setter = code.length() == 6 && code.opcode(5) == RETURN && "V".equals(returned);
+        boolean fluentSetter = code.length() == 7 && code.opcode(5) == ALOAD_0 && code.opcode(6) == ARETURN;
+
+        return setter || fluentSetter ? access(FieldAccess.Kind.WRITE, classFile, code.unsignedShort(3)) : null;
+    }
+
+    private static FieldAccess matchGetter(ClassFile classFile, ClassFile.MethodCode code, int fieldReference) {
+        if (!classFile.isFieldReference(fieldReference)
+                || code.opcode(4) != returnOpcode(classFile.getFieldDescriptor(fieldReference))) {
+            return null;
+        }
+
+        return access(FieldAccess.Kind.READ, classFile, fieldReference);
+    }
+
+    private static FieldAccess access(FieldAccess.Kind kind, ClassFile classFile, int fieldReference) {
+        if (!classFile.isFieldReference(fieldReference)) {
+            return null;
+        }
+
+        return new FieldAccess(kind, classFile.getFieldOwner(fieldReference),
+                classFile.getFieldName(fieldReference), classFile.getFieldDescriptor(fieldReference));
+    }
+
+    private static boolean isSingleType(String descriptor) {
+        int start = 0;
+
+        while (start < descriptor.length() && descriptor.charAt(start) == '[') {
+            start++;
+        }
+
+        if (start == descriptor.length()) {
+            return false;
+        }
+
+        if (descriptor.charAt(start) == 'L') {
+            return descriptor.indexOf(';') == descriptor.length() - 1;
+        }
+
+        return start == descriptor.length() - 1 && descriptor.charAt(start) != 'V';
+    }
+
+    private static int loadOpcode(String descriptor) {
+        switch (descriptor.charAt(0)) {
+            case 'J':
+                return LLOAD_1;
+            case 'F':
+                return FLOAD_1;
+            case 'D':
+                return DLOAD_1;
+            case 'L':
+            case '[':
+                return ALOAD_1;
+            default:
+                return ILOAD_1;
+        }
+    }
+
+    private static int returnOpcode(String descriptor) {
+        switch (descriptor.charAt(0)) {
+            case 'J':
+                return LRETURN;
+            case 'F':
+                return FRETURN;
+            case 'D':
+                return DRETURN;
+            case 'L':
+            case '[':
+                return ARETURN;
+            default:
+                return IRETURN;
+        }
+    }
+}
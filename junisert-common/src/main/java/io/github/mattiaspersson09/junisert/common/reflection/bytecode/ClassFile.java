@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.bytecode;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Minimal class file reader, only reading what is needed to analyze method bytecode: the constant pool and
+ * the code of every method. Everything else in the class file is skipped.
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se8/html/jvms-4.html">Class file format</a>
+ */
+final class ClassFile {
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int UTF8 = 1;
+    private static final int INTEGER = 3;
+    private static final int FLOAT = 4;
+    private static final int LONG = 5;
+    private static final int DOUBLE = 6;
+    private static final int CLASS = 7;
+    private static final int STRING = 8;
+    private static final int FIELD_REF = 9;
+    private static final int METHOD_REF = 10;
+    private static final int INTERFACE_METHOD_REF = 11;
+    private static final int NAME_AND_TYPE = 12;
+    private static final int METHOD_HANDLE = 15;
+    private static final int METHOD_TYPE = 16;
+    private static final int DYNAMIC = 17;
+    private static final int INVOKE_DYNAMIC = 18;
+    private static final int MODULE = 19;
+    private static final int PACKAGE = 20;
+
+    private final byte[] tags;
+    private final String[] strings;
+    private final int[] firstReferences;
+    private final int[] secondReferences;
+    private final Map<String, MethodCode> methods;
+
+    private ClassFile(DataInputStream input) throws IOException {
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+
+        // Minor and major version
+        input.skipBytes(4);
+
+        int constantCount = input.readUnsignedShort();
+        this.tags = new byte[constantCount];
+        this.strings = new String[constantCount];
+        this.firstReferences = new int[constantCount];
+        this.secondReferences = new int[constantCount];
+
+        for (int i = 1; i < constantCount; i++) {
+            int tag = input.readUnsignedByte();
+            tags[i] = (byte) tag;
+
+            switch (tag) {
+                case UTF8:
+                    strings[i] = input.readUTF();
+                    break;
+                case CLASS:
+                case STRING:
+                case METHOD_TYPE:
+                case MODULE:
+                case PACKAGE:
+                    firstReferences[i] = input.readUnsignedShort();
+                    break;
+                case FIELD_REF:
+                case METHOD_REF:
+                case INTERFACE_METHOD_REF:
+                case NAME_AND_TYPE:
+                case DYNAMIC:
+                case INVOKE_DYNAMIC:
+                    firstReferences[i] = input.readUnsignedShort();
+                    secondReferences[i] = input.readUnsignedShort();
+                    break;
+                case INTEGER:
+                case FLOAT:
+                    input.skipBytes(4);
+                    break;
+                case LONG:
+                case DOUBLE:
+                    // Takes two entries in the constant pool
+                    input.skipBytes(8);
+                    i++;
+                    break;
+                case METHOD_HANDLE:
+                    input.skipBytes(3);
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag: " + tag);
+            }
+        }
+
+        // Access flags, this class and super class
+        input.skipBytes(6);
+        input.skipBytes(2 * input.readUnsignedShort());
+
+        int fieldCount = input.readUnsignedShort();
+
+        for (int i = 0; i < fieldCount; i++) {
+            input.skipBytes(6);
+            skipAttributes(input);
+        }
+
+        int methodCount = input.readUnsignedShort();
+        Map<String, MethodCode> read = new HashMap<>(methodCount * 2);
+
+        for (int i = 0; i < methodCount; i++) {
+            int accessFlags = input.readUnsignedShort();
+            String name = strings[input.readUnsignedShort()];
+            String descriptor = strings[input.readUnsignedShort()];
+            byte[] code = readCode(input);
+
+            if (code != null) {
+                read.put(name + descriptor, new MethodCode(accessFlags, descriptor, code));
+            }
+        }
+
+        this.methods = Collections.unmodifiableMap(read);
+    }
+
+    /**
+     * Reads a class file from given {@code input}, the input is not closed.
+     *
+     * @param input of class file
+     * @return read class file
+     * @throws IOException if input is not a readable class file
+     */
+    static ClassFile read(InputStream input) throws IOException {
+        return new ClassFile(new DataInputStream(input));
+    }
+
+    /**
+     * Gets the methods of this class file having code, keyed by method name followed by its descriptor.
+     *
+     * @return methods having code
+     */
+    Map<String, MethodCode> getMethods() {
+        return methods;
+    }
+
+    /**
+     * Checks if constant at {@code index} is a field reference.
+     *
+     * @param index of constant
+     * @return true if field reference
+     */
+    boolean isFieldReference(int index) {
+        return index > 0 && index < tags.length && tags[index] == FIELD_REF;
+    }
+
+    /**
+     * Gets the binary name of the class owning the field referenced at {@code index}.
+     *
+     * @param index of field reference
+     * @return binary name of field owner
+     */
+    String getFieldOwner(int index) {
+        return strings[firstReferences[firstReferences[index]]].replace('/', '.');
+    }
+
+    /**
+     * Gets the name of the field referenced at {@code index}.
+     *
+     * @param index of field reference
+     * @return name of field
+     */
+    String getFieldName(int index) {
+        return strings[firstReferences[secondReferences[index]]];
+    }
+
+    /**
+     * Gets the descriptor of the field referenced at {@code index}.
+     *
+     * @param index of field reference
+     * @return descriptor of field
+     */
+    String getFieldDescriptor(int index) {
+        return strings[secondReferences[secondReferences[index]]];
+    }
+
+    private byte[] readCode(DataInputStream input) throws IOException {
+        byte[] code = null;
+        int attributeCount = input.readUnsignedShort();
+
+        for (int i = 0; i < attributeCount; i++) {
+            String name = strings[input.readUnsignedShort()];
+            int length = input.readInt();
+
+            if ("Code".equals(name)) {
+                // Max stack and max locals
+                input.skipBytes(4);
+                code = new byte[input.readInt()];
+                input.readFully(code);
+                input.skipBytes(length - 8 - code.length);
+            } else {
+                input.skipBytes(length);
+            }
+        }
+
+        return code;
+    }
+
+    private static void skipAttributes(DataInputStream input) throws IOException {
+        int attributeCount = input.readUnsignedShort();
+
+        for (int i = 0; i < attributeCount; i++) {
+            input.skipBytes(2);
+            input.skipBytes(input.readInt());
+        }
+    }
+
+    /**
+     * Code of a method read from a class file.
+     */
+    static final class MethodCode {
+        private static final int ACC_STATIC = 0x0008;
+
+        private final int accessFlags;
+        private final String descriptor;
+        private final byte[] code;
+
+        MethodCode(int accessFlags, String descriptor, byte[] code) {
+            this.accessFlags = accessFlags;
+            this.descriptor = descriptor;
+            this.code = code;
+        }
+
+        boolean isStatic() {
+            return (accessFlags & ACC_STATIC) != 0;
+        }
+
+        String getDescriptor() {
+            return descriptor;
+        }
+
+        int length() {
+            return code.length;
+        }
+
+        int opcode(int index) {
+            return code[index] & 0xFF;
+        }
+
+        int unsignedShort(int index) {
+            return ((code[index] & 0xFF) << 8) | (code[index + 1] & 0xFF);
+        }
+    }
+}
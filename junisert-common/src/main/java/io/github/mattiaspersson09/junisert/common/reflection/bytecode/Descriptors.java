@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.bytecode;
+
+import java.util.List;
+
+/**
+ * Creates type descriptors as used in class files.
+ */
+final class Descriptors {
+    private Descriptors() {
+    }
+
+    /**
+     * Creates the field descriptor of given {@code type}.
+     *
+     * @param type to describe
+     * @return descriptor of type
+     */
+    static String of(Class<?> type) {
+        if (type.isArray()) {
+            return type.getName().replace('.', '/');
+        }
+
+        if (type.isPrimitive()) {
+            return String.valueOf(primitiveDescriptor(type));
+        }
+
+        return "L" + type.getName().replace('.', '/') + ";";
+    }
+
+    /**
+     * Creates the method descriptor of given {@code parameterTypes} and {@code returnType}.
+     *
+     * @param parameterTypes of method in declared order
+     * @param returnType     of method
+     * @return descriptor of method
+     */
+    static String ofMethod(List<Class<?>> parameterTypes, Class<?> returnType) {
+        StringBuilder descriptor = new StringBuilder("(");
+
+        for (Class<?> parameterType : parameterTypes) {
+            descriptor.append(of(parameterType));
+        }
+
+        return descriptor.append(')').append(of(returnType)).toString();
+    }
+
+    private static char primitiveDescriptor(Class<?> type) {
+        if (type == int.class) return 'I';
+        if (type == long.class) return 'J';
+        if (type == boolean.class) return 'Z';
+        if (type == byte.class) return 'B';
+        if (type == char.class) return 'C';
+        if (type == short.class) return 'S';
+        if (type == float.class) return 'F';
+        if (type == double.class) return 'D';
+        return 'V';
+    }
+}
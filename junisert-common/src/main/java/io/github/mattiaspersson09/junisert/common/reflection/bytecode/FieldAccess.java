@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.bytecode;
+
+import io.github.mattiaspersson09.junisert.common.reflection.Field;
+
+import java.util.Objects;
+
+/**
+ * Representing a field access proven by the bytecode of an accessor method, where the accessor either only reads
+ * an instance field and returns it, or only writes its argument to an instance field.
+ *
+ * @see AccessorAnalyzer
+ */
+public final class FieldAccess {
+    private final Kind kind;
+    private final String owner;
+    private final String fieldName;
+    private final String fieldDescriptor;
+
+    FieldAccess(Kind kind, String owner, String fieldName, String fieldDescriptor) {
+        this.kind = Objects.requireNonNull(kind);
+        this.owner = Objects.requireNonNull(owner);
+        this.fieldName = Objects.requireNonNull(fieldName);
+        this.fieldDescriptor = Objects.requireNonNull(fieldDescriptor);
+    }
+
+    /**
+     * Gets the kind of field access.
+     *
+     * @return kind of access
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the binary name of the class owning the accessed field, as referenced by the bytecode.
+     *
+     * @return binary name of field owner
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Gets the name of the accessed field.
+     *
+     * @return name of accessed field
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Gets the descriptor of the accessed field, such as {@code I} or {@code Ljava/lang/String;}.
+     *
+     * @return descriptor of accessed field
+     */
+    public String getFieldDescriptor() {
+        return fieldDescriptor;
+    }
+
+    /**
+     * Checks if this access is of given {@code field}, meaning the field is declared by the referenced owner and
+     * has the same name and type.
+     *
+     * @param field to check
+     * @return true if given field is accessed
+     */
+    public boolean isOf(Field field) {
+        return field.isInstanceMember()
+                && owner.equals(field.getParent().getName())
+                && fieldName.equals(field.getName())
+                && fieldDescriptor.equals(Descriptors.of(field.getType()));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FieldAccess that = (FieldAccess) o;
+        return kind == that.kind
+                && Objects.equals(owner, that.owner)
+                && Objects.equals(fieldName, that.fieldName)
+                && Objects.equals(fieldDescriptor, that.fieldDescriptor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, owner, fieldName, fieldDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return "FieldAccess{" +
+                "kind=" + kind +
+                ", owner='" + owner + '\'' +
+                ", fieldName='" + fieldName + '\'' +
+                ", fieldDescriptor='" + fieldDescriptor + '\'' +
+                '}';
+    }
+
+    /**
+     * Kind of field access.
+     */
+    public enum Kind {
+        /**
+         * Accessor only reads the field and returns its value, like a getter.
+         */
+        READ,
+        /**
+         * Accessor only writes its argument to the field, optionally returning its own instance, like a setter.
+         */
+        WRITE
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.metadata;
+
+import io.github.mattiaspersson09.junisert.common.reflection.Signature;
+import io.github.mattiaspersson09.junisert.common.reflection.access.ConstructorAccessor;
+import io.github.mattiaspersson09.junisert.common.reflection.access.FieldAccessor;
+import io.github.mattiaspersson09.junisert.common.reflection.access.MethodAccessor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Base class for generated {@link UnitMetadata}, where generated metadata registers its tables and accessors
+ * when constructed.
+ */
+public abstract class AbstractUnitMetadata implements UnitMetadata {
+    private final Class<?> unitType;
+    private final Map<String, FieldAccessor> fieldAccessors = new HashMap<>();
+    private final Map<String, Map<Signature, MethodAccessor>> methodAccessors = new HashMap<>();
+    private final Map<Signature, ConstructorAccessor> constructorAccessors = new HashMap<>();
+    private List<String> fieldNames = Collections.emptyList();
+    private Signature canonicalConstructor;
+    private boolean declaresEquals;
+    private boolean declaresHashCode;
+    private boolean declaresToString;
+
+    /**
+     * Creates new metadata of given {@code unitType}.
+     *
+     * @param unitType metadata is generated for
+     */
+    protected AbstractUnitMetadata(Class<?> unitType) {
+        this.unitType = Objects.requireNonNull(unitType);
+    }
+
+    /**
+     * Registers names of instance fields declared by the unit, in declared order.
+     *
+     * @param names of declared instance fields
+     */
+    protected final void fields(String... names) {
+        this.fieldNames = Collections.unmodifiableList(Arrays.asList(names.clone()));
+    }
+
+    /**
+     * Registers the canonical constructor of the unit.
+     *
+     * @param parameterTypes of canonical constructor in declared order
+     */
+    protected final void canonicalConstructor(Class<?>... parameterTypes) {
+        this.canonicalConstructor = Signature.of(parameterTypes);
+    }
+
+    /**
+     * Registers which methods of {@link Object} the unit declares an override of.
+     *
+     * @param equals   true if the unit declares equals
+     * @param hashCode true if the unit declares hashCode
+     * @param toString true if the unit declares toString
+     */
+    protected final void declares(boolean equals, boolean hashCode, boolean toString) {
+        this.declaresEquals = equals;
+        this.declaresHashCode = hashCode;
+        this.declaresToString = toString;
+    }
+
+    /**
+     * Registers a generated accessor of field declared by the unit.
+     *
+     * @param name     of declared field
+     * @param accessor of field
+     */
+    protected final void fieldAccessor(String name, FieldAccessor accessor) {
+        fieldAccessors.put(name, Objects.requireNonNull(accessor));
+    }
+
+    /**
+     * Registers a generated accessor of method declared by the unit.
+     *
+     * @param name           of declared method
+     * @param parameterTypes of declared method in declared order
+     * @param accessor       of method
+     */
+    protected final void methodAccessor(String name, Class<?>[] parameterTypes, MethodAccessor accessor) {
+        methodAccessors.computeIfAbsent(name, key -> new HashMap<>(2))
+                .put(Signature.of(parameterTypes), Objects.requireNonNull(accessor));
+    }
+
+    /**
+     * Registers a generated accessor of constructor declared by the unit.
+     *
+     * @param parameterTypes of declared constructor in declared order
+     * @param accessor       of constructor
+     */
+    protected final void constructorAccessor(Class<?>[] parameterTypes, ConstructorAccessor accessor) {
+        constructorAccessors.put(Signature.of(parameterTypes), Objects.requireNonNull(accessor));
+    }
+
+    @Override
+    public final Class<?> getUnitType() {
+        return unitType;
+    }
+
+    @Override
+    public final List<String> getFieldNames() {
+        return fieldNames;
+    }
+
+    @Override
+    public final Optional<Signature> getCanonicalConstructor() {
+        return Optional.ofNullable(canonicalConstructor);
+    }
+
+    @Override
+    public final boolean declaresEquals() {
+        return declaresEquals;
+    }
+
+    @Override
+    public final boolean declaresHashCode() {
+        return declaresHashCode;
+    }
+
+    @Override
+    public final boolean declaresToString() {
+        return declaresToString;
+    }
+
+    @Override
+    public final Optional<FieldAccessor> findFieldAccessor(String name) {
+        return Optional.ofNullable(fieldAccessors.get(name));
+    }
+
+    @Override
+    public final Optional<MethodAccessor> findMethodAccessor(String name, Signature signature) {
+        return Optional.ofNullable(methodAccessors.getOrDefault(name, Collections.emptyMap()).get(signature));
+    }
+
+    @Override
+    public final Optional<ConstructorAccessor> findConstructorAccessor(Signature signature) {
+        return Optional.ofNullable(constructorAccessors.get(signature));
+    }
+
+    @Override
+    public String toString() {
+        return "UnitMetadata{" +
+                "unitType=" + unitType +
+                ", fieldNames=" + fieldNames +
+                ", canonicalConstructor=" + canonicalConstructor +
+                '}';
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.metadata;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests {@link UnitMetadata} to be generated at compile time by the {@code junisert-processor} annotation
+ * processor. When placed on a unit without any arguments, metadata is generated for the unit itself. When placed on
+ * any type or package, such as a test class, metadata is generated for every given unit and for every unit in given
+ * packages.
+ * <p>
+ * Example:
+ * <pre>
+ * &#64;GenerateMetadata(value = Customer.class, packages = "com.example.model")
+ * class ModelTest {
+ * }
+ * </pre>
+ *
+ * @see UnitMetadata
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.TYPE, ElementType.PACKAGE})
+public @interface GenerateMetadata {
+    /**
+     * Units to generate metadata for.
+     *
+     * @return units to generate metadata for
+     */
+    Class<?>[] value() default {};
+
+    /**
+     * Packages to generate metadata for every unit in, nested packages are not included.
+     *
+     * @return names of packages
+     */
+    String[] packages() default {};
+}
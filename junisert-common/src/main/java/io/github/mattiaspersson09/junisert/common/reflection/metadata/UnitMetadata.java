@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.metadata;
+
+import io.github.mattiaspersson09.junisert.common.reflection.Signature;
+import io.github.mattiaspersson09.junisert.common.reflection.access.ConstructorAccessor;
+import io.github.mattiaspersson09.junisert.common.reflection.access.FieldAccessor;
+import io.github.mattiaspersson09.junisert.common.reflection.access.MethodAccessor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Metadata of a unit generated at compile time, see {@link GenerateMetadata}. Metadata holds traits of a unit
+ * that otherwise are found by inspecting its members, and accessors invoking unit members directly without
+ * reflection. Accessors are only generated for non-private members, since the generated metadata is placed in the
+ * same package as its unit. Members without a generated accessor are accessed with reflection as usual.
+ * <p>
+ * Generated metadata is picked up automatically by units and their reflected members. Members of a unit are still
+ * found with reflection, metadata only replaces inspection of traits and lets non-private members be invoked
+ * without being made accessible. Private members still require deep reflection. Metadata not matching the declared
+ * members of its unit, such as metadata generated for an earlier version of the unit, is ignored by the unit.
+ *
+ * @see GenerateMetadata
+ * @see AbstractUnitMetadata
+ */
+public interface UnitMetadata {
+    /**
+     * Suffix of generated metadata class names.
+     */
+    String SUFFIX = "_JunisertMetadata";
+
+    /**
+     * Gets generated metadata of given {@code unitType}, loaded once per unit.
+     *
+     * @param unitType to get metadata of
+     * @return generated metadata or empty if no metadata is generated for given unit
+     */
+    static Optional<UnitMetadata> of(Class<?> unitType) {
+        return UnitMetadataLoader.load(Objects.requireNonNull(unitType));
+    }
+
+    /**
+     * Gets the binary name of the generated metadata class for given {@code unitBinaryName}, placed in the same
+     * package as the unit.
+     *
+     * @param unitBinaryName such as {@code com.example.Outer$Inner}
+     * @return binary name of the generated metadata class
+     */
+    static String metadataNameOf(String unitBinaryName) {
+        int packageEnd = unitBinaryName.lastIndexOf('.');
+
+        return unitBinaryName.substring(0, packageEnd + 1)
+                + unitBinaryName.substring(packageEnd + 1).replace('$', '_')
+                + SUFFIX;
+    }
+
+    /**
+     * Gets the unit this metadata is generated for.
+     *
+     * @return unit type
+     */
+    Class<?> getUnitType();
+
+    /**
+     * Gets names of instance fields declared by the unit, in declared order.
+     *
+     * @return names of declared instance fields
+     */
+    List<String> getFieldNames();
+
+    /**
+     * Gets the signature of the canonical constructor of the unit, accepting every record component of a record or
+     * every instance field of other units in declared order.
+     *
+     * @return signature of canonical constructor or empty if not declared
+     */
+    Optional<Signature> getCanonicalConstructor();
+
+    /**
+     * Checks if the unit declares an override of {@link Object#equals(Object)}.
+     *
+     * @return true if the unit declares equals
+     */
+    boolean declaresEquals();
+
+    /**
+     * Checks if the unit declares an override of {@link Object#hashCode()}.
+     *
+     * @return true if the unit declares hashCode
+     */
+    boolean declaresHashCode();
+
+    /**
+     * Checks if the unit declares an override of {@link Object#toString()}.
+     *
+     * @return true if the unit declares toString
+     */
+    boolean declaresToString();
+
+    /**
+     * Finds a generated accessor of field declared by the unit with {@code name}.
+     *
+     * @param name of declared field
+     * @return generated field accessor or empty if not generated
+     */
+    Optional<FieldAccessor> findFieldAccessor(String name);
+
+    /**
+     * Finds a generated accessor of method declared by the unit with {@code name} and exactly given
+     * {@code signature}.
+     *
+     * @param name      of declared method
+     * @param signature of declared method
+     * @return generated method accessor or empty if not generated
+     */
+    Optional<MethodAccessor> findMethodAccessor(String name, Signature signature);
+
+    /**
+     * Finds a generated accessor of constructor declared by the unit with exactly given {@code signature}.
+     *
+     * @param signature of declared constructor
+     * @return generated constructor accessor or empty if not generated
+     */
+    Optional<ConstructorAccessor> findConstructorAccessor(Signature signature);
+}
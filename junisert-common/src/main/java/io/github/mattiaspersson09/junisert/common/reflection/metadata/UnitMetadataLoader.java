@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.metadata;
+
+import java.util.Optional;
+
+/**
+ * Loads generated {@link UnitMetadata} once per unit, the cache is tied to the unit and will not prevent its
+ * class loader from being unloaded.
+ */
+final class UnitMetadataLoader {
+    private static final ClassValue<Optional<UnitMetadata>> CACHE = new ClassValue<Optional<UnitMetadata>>() {
+        @Override
+        protected Optional<UnitMetadata> computeValue(Class<?> unitType) {
+            return find(unitType);
+        }
+    };
+
+    private UnitMetadataLoader() {
+    }
+
+    static Optional<UnitMetadata> load(Class<?> unitType) {
+        return CACHE.get(unitType);
+    }
+
+    private static Optional<UnitMetadata> find(Class<?> unitType) {
+        if (unitType.isPrimitive() || unitType.isArray() || unitType.getClassLoader() == null) {
+            return Optional.empty();
+        }
+
+        String metadataName = UnitMetadata.metadataNameOf(unitType.getName());
+        ClassLoader classLoader = unitType.getClassLoader();
+
+        // Most units have no metadata, looking up the class file first avoids a thrown ClassNotFoundException
+        if (classLoader.getResource(metadataName.replace('.', '/') + ".class") == null) {
+            return Optional.empty();
+        }
+
+        try {
+            Class<?> generated = Class.forName(metadataName, true, classLoader);
+
+            if (!UnitMetadata.class.isAssignableFrom(generated)) {
+                return Optional.empty();
+            }
+
+            UnitMetadata metadata = (UnitMetadata) generated.getConstructor().newInstance();
+
+            return metadata.getUnitType() == unitType ? Optional.of(metadata) : Optional.empty();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // Metadata is not generated for the unit or is not usable, reflection is used instead
+            return Optional.empty();
+        }
+    }
+}
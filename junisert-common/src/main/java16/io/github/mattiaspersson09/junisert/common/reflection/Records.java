@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection;
+
+import java.lang.reflect.RecordComponent;
+
+/**
+ * Record support for units. This is the Java 16 variant, which reads record components directly.
+ * <p>
+ * Visible so that records are recognized the same way everywhere, through {@link #isRecord(Class)}.
+ */
+public final class Records {
+    private Records() {
+    }
+
+    /**
+     * Checks if given {@code type} is a record.
+     *
+     * @param type to check
+     * @return true if type is a record
+     */
+    public static boolean isRecord(Class<?> type) {
+        return type.isRecord();
+    }
+
+    /**
+     * Gets the component types of given record {@code type}, in declared order.
+     *
+     * @param type of record
+     * @return component types of record or null if type is not a record
+     */
+    static Class<?>[] componentTypes(Class<?> type) {
+        RecordComponent[] components = type.getRecordComponents();
+
+        if (components == null) {
+            return null;
+        }
+
+        Class<?>[] types = new Class<?>[components.length];
+
+        for (int i = 0; i < components.length; i++) {
+            types[i] = components[i].getType();
+        }
+
+        return types;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection.access;
+
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Resolves private lookups, which is needed to define lambdas for private members. This is the Java 9 variant,
+ * which is module-aware and calls {@link MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)} directly.
+ */
+final class Lookups {
+    private Lookups() {
+    }
+
+    /**
+     * Checks if private lookups are supported by the current runtime.
+     *
+     * @return true if private lookups are supported
+     */
+    static boolean isPrivateLookupSupported() {
+        return true;
+    }
+
+    /**
+     * Gets a lookup with private access to given {@code type}.
+     *
+     * @param type to access
+     * @return lookup with private access to given type
+     * @throws IllegalAccessException if access to type is not permitted by its module
+     */
+    static MethodHandles.Lookup privateLookupIn(Class<?> type) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+    }
+}
@@ -165,6 +165,15 @@ public class ExecutableMemberTest {
         assertThat(member.getParameterTypes()).isEmpty();
     }
 
+    @Test
+    void getSignature_whenHasParameters_thenIsInternedSignatureOfTypes() {
+        doReturn(Super.class).when(parameter).getType();
+
+        assertThat(member.getSignature()).isSameAs(Signature.of(Super.class));
+        assertThat(member.hasParameters(Super.class)).isTrue();
+        assertThat(member.hasParameters(Base.class)).isFalse();
+    }
+
     @Test
     void equalsTest() {
         Executable method = Mockito.mock(Method.class);
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.common.reflection;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SignatureTest {
+    @Test
+    void of_whenSameTypes_thenIsInterned() {
+        Signature signature = Signature.of(Object.class, String.class);
+
+        assertThat(Signature.of(Object.class, String.class)).isSameAs(signature);
+        assertThat(Signature.of(Arrays.asList(Object.class, String.class))).isSameAs(signature);
+        assertThat(Signature.of()).isSameAs(Signature.EMPTY);
+        assertThat(Signature.of(String.class, Object.class)).isNotSameAs(signature);
+    }
+
+    @Test
+    void of_whenTypesAreChangedAfterCreation_thenSignatureIsUnchanged() {
+        Class<?>[] types = {Object.class};
+        Signature signature = Signature.of(types);
+
+        types[0] = String.class;
+
+        assertThat(signature.get(0)).isEqualTo(Object.class);
+    }
+
+    @Test
+    void of_whenNull_thenThrowsNullPointerException() {
+        assertThatThrownBy(() -> Signature.of((Class<?>[]) null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void matches_whenExactTypesInOrder_thenIsTrue() {
+        Signature signature = Signature.of(Object.class, String.class);
+
+        assertThat(signature.matches(Object.class, String.class)).isTrue();
+        assertThat(signature.matches(String.class, Object.class)).isFalse();
+        assertThat(signature.matches(Object.class)).isFalse();
+        assertThat(Signature.EMPTY.matches()).isTrue();
+    }
+
+    @Test
+    void asList_thenIsUnmodifiableTypesInOrder() {
+        Signature signature = Signature.of(Object.class, String.class);
+
+        assertThat(signature.asList()).containsExactly(Object.class, String.class);
+        assertThat(signature.size()).isEqualTo(2);
+        assertThat(signature.isEmpty()).isFalse();
+        assertThat(Signature.EMPTY.isEmpty()).isTrue();
+        assertThatThrownBy(() -> signature.asList().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void equalsTest() {
+        Signature signature = Signature.of(Object.class);
+
+        assertThat(signature).isEqualTo(Signature.lookup(new Class<?>[]{Object.class}));
+        assertThat(signature).isNotEqualTo(Signature.of(String.class));
+        assertThat(signature).isNotEqualTo(new Object());
+        assertThat(signature).isNotEqualTo(null);
+    }
+
+    @Test
+    void hashCodeTest() {
+        Signature signature = Signature.of(Object.class);
+
+        assertThat(signature.hashCode()).isEqualTo(Signature.lookup(new Class<?>[]{Object.class}).hashCode());
+        assertThat(signature.hashCode()).isEqualTo(Arrays.asList(Object.class).hashCode());
+    }
+
+    @Test
+    void toStringTest() {
+        assertThat(Signature.of(Object.class).toString()).isEqualTo("[class java.lang.Object]");
+        assertThat(Signature.EMPTY.toString()).isEqualTo("[]");
+    }
+}
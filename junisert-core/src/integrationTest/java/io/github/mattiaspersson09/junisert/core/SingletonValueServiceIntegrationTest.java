@@ -39,6 +39,13 @@ public class SingletonValueServiceIntegrationTest {
         assertThat(SingletonValueService.getInstance()).isSameAs(SingletonValueService.getInstance());
     }
 
+    @Test
+    void getRegisteredSupport_whenCalledSeveralTimes_thenAlwaysSameView() {
+        SingletonValueService valueService = SingletonValueService.getInstance();
+
+        assertThat(valueService.getRegisteredSupport()).isSameAs(valueService.getRegisteredSupport());
+    }
+
     @Test
     void supportGeneratorPriority_primitiveSupportFirst_argumentConstructorWithDependenciesLast() {
         SingletonValueService valueService = SingletonValueService.getInstance();
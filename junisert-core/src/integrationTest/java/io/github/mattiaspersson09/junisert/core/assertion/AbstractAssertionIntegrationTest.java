@@ -21,6 +21,7 @@ import io.github.mattiaspersson09.junisert.common.reflection.Unit;
 import io.github.mattiaspersson09.junisert.core.NoCacheTestValueService;
 import io.github.mattiaspersson09.junisert.core.TestInstanceCreator;
 import io.github.mattiaspersson09.junisert.core.assertion.AbstractAssertion.TemporaryValueService;
+import io.github.mattiaspersson09.junisert.core.internal.ValueService;
 import io.github.mattiaspersson09.junisert.testunits.unit.pojo.ImmutableModel;
 
 import org.junit.jupiter.api.Test;
@@ -43,6 +44,22 @@ public class AbstractAssertionIntegrationTest {
                 .isInstanceOf(TemporaryValueService.class);
     }
 
+    @Test
+    void valueService_whenTemporarySupportIsUnchanged_thenReusesTemporaryValueService() {
+        Assertion assertion = new Assertion(new AssertionResource(
+                Unit.of(ImmutableModel.class),
+                new TestInstanceCreator(),
+                NoCacheTestValueService.withAllValueGenerators(),
+                Exclusion.exclude().build()
+        )).withSupport(String.class, () -> "support value");
+
+        ValueService valueService = assertion.getValueService();
+
+        assertThat(assertion.getValueService()).isSameAs(valueService);
+        assertThat(assertion.generateValue(String.class).get()).isEqualTo("support value");
+        assertThat(assertion.withSupport(Integer.class, () -> 1).getValueService()).isNotSameAs(valueService);
+    }
+
     private static class Assertion extends AbstractAssertion<Assertion> {
         protected Assertion(AssertionResource assertionResource) {
             super(assertionResource);
@@ -132,4 +132,27 @@ public class HasGettersIntegrationTest {
     void givenUnit_whenImmutableFields_thenComparesFieldValue_andGetterResult_andPassesTest() {
         hasGetters.test(Unit.of(ModelWithMutableAndImmutableFields.class));
     }
+
+    @Test
+    void givenUnit_whenVerifyingStatically_andAccessorsAreTrivial_thenPassesTestWithoutCreatingInstances() {
+        InstanceCreator failingInstanceCreator = unitClass -> {
+            throw new AssertionError("Instance should not be created for: " + unitClass);
+        };
+
+        new HasGetters(valueService, failingInstanceCreator)
+                .withExclusion(Exclusion.exclude()
+                        .fieldMatching(Field::isSynthetic)
+                        .methodMatching(Method::isSynthetic)
+                        .build())
+                .withStaticVerification(true)
+                .test(Unit.of(BeanStyle.class));
+    }
+
+    @Test
+    void givenUnit_whenVerifyingStatically_andAccessorIsNotTrivial_thenFallsBackToInvoking_andFailsTest() {
+        hasGetters.withStaticVerification(true);
+
+        assertThatThrownBy(() -> hasGetters.test(Unit.of(NotGettingField.class)))
+                .isInstanceOf(UnitAssertionError.class);
+    }
 }
@@ -156,4 +156,27 @@ public class HasSettersIntegrationTest {
     void givenUnit_whenBooleanField_andWithPrefixSetter_thenPassesTest() {
         hasSetters.test(Unit.of(BuilderStyleBooleanWithPrefix.class));
     }
+
+    @Test
+    void givenUnit_whenVerifyingStatically_andAccessorsAreTrivial_thenPassesTestWithoutCreatingInstances() {
+        InstanceCreator failingInstanceCreator = unitClass -> {
+            throw new AssertionError("Instance should not be created for: " + unitClass);
+        };
+
+        new HasSetters(valueService, failingInstanceCreator)
+                .withExclusion(Exclusion.exclude()
+                        .fieldMatching(Field::isSynthetic)
+                        .methodMatching(Method::isSynthetic)
+                        .build())
+                .withStaticVerification(true)
+                .test(Unit.of(BeanStyle.class));
+    }
+
+    @Test
+    void givenUnit_whenVerifyingStatically_andAccessorIsNotTrivial_thenFallsBackToInvoking_andFailsTest() {
+        hasSetters.withStaticVerification(true);
+
+        assertThatThrownBy(() -> hasSetters.test(Unit.of(NotSettingField.class)))
+                .isInstanceOf(UnitAssertionError.class);
+    }
 }
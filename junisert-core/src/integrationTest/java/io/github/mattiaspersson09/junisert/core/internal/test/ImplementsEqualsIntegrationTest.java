@@ -27,6 +27,7 @@ import io.github.mattiaspersson09.junisert.core.internal.ValueService;
 import io.github.mattiaspersson09.junisert.testunits.equals.WellImplementedEquals;
 import io.github.mattiaspersson09.junisert.testunits.equals.WellImplementedEqualsExtendingBase;
 import io.github.mattiaspersson09.junisert.testunits.equals.broken.AlwaysTrueEquals;
+import io.github.mattiaspersson09.junisert.testunits.equals.broken.IgnoringBaseEquals;
 import io.github.mattiaspersson09.junisert.testunits.equals.broken.InconsistentEquals;
 import io.github.mattiaspersson09.junisert.testunits.equals.broken.MissingEquals;
 import io.github.mattiaspersson09.junisert.testunits.equals.broken.NoTypeCheckEquals;
@@ -65,6 +66,20 @@ public class ImplementsEqualsIntegrationTest {
         implementsEquals.test(Unit.of(WellImplementedEqualsExtendingBase.class));
     }
 
+    @Test
+    void givenUnit_whenIncludingInheritedFields_andEqualsIncludesSuper_thenPassesTest() {
+        implementsEquals.withInheritedFields(true)
+                .test(Unit.of(WellImplementedEqualsExtendingBase.class));
+    }
+
+    @Test
+    void givenUnit_whenIncludingInheritedFields_andEqualsIgnoresSuper_thenFailsTest() {
+        implementsEquals.test(Unit.of(IgnoringBaseEquals.class));
+
+        assertThatThrownBy(() -> implementsEquals.withInheritedFields(true).test(Unit.of(IgnoringBaseEquals.class)))
+                .isInstanceOf(UnitAssertionError.class);
+    }
+
     @Test
     void givenUnit_whenNotDeclaringImplementationOfEqualsMethod_thenFailsTest() {
         assertThatThrownBy(() -> implementsEquals.test(Unit.of(MissingEquals.class)))
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.core;
+
+import io.github.mattiaspersson09.junisert.testunits.unit.bean.BeanCompliantModel;
+
+import java.security.SecurityPermission;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures latency of the first assertion and lookup in a fresh JVM, where default support is initialized.
+ * Every fork measures a single cold shot, so results are spread over many forks instead of iterations.
+ * Run with the {@code jmhColdStart} task, the shared {@code jmh} settings would override these annotations.
+ */
+@SuppressWarnings("unused")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(10)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class ColdStartPerformanceTest {
+    @Benchmark
+    public void firstAssertion_simpleUnit() {
+        Junisert.assertThatPojo(BeanCompliantModel.class).isWellImplemented();
+    }
+
+    @Benchmark
+    public void firstLookup_earlyJavaInternal(Blackhole blackhole) {
+        blackhole.consume(SingletonValueService.getInstance().getValue(String.class).get());
+    }
+
+    @Benchmark
+    public void firstLookup_lateJavaInternal(Blackhole blackhole) {
+        blackhole.consume(SingletonValueService.getInstance().getValue(SecurityPermission.class).get());
+    }
+}
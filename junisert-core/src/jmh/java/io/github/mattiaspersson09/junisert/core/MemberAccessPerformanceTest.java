@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.core;
+
+import io.github.mattiaspersson09.junisert.common.reflection.access.AccessorBackend;
+import io.github.mattiaspersson09.junisert.common.reflection.access.ConstructorAccessor;
+import io.github.mattiaspersson09.junisert.common.reflection.access.FieldAccessor;
+import io.github.mattiaspersson09.junisert.common.reflection.access.MethodAccessor;
+import io.github.mattiaspersson09.junisert.testunits.unit.bean.BeanCompliantModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@SuppressWarnings("unused")
+@State(Scope.Benchmark)
+public class MemberAccessPerformanceTest {
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    @Param({"reflection", "methodHandles", "lambdas"})
+    String backend;
+
+    FieldAccessor field;
+    MethodAccessor getter;
+    ConstructorAccessor constructor;
+    BeanCompliantModel instance;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchFieldException, NoSuchMethodException {
+        System.out.println("Setting up member accessors using backend: " + backend);
+        AccessorBackend accessorBackend;
+
+        switch (backend) {
+            case "reflection":
+                accessorBackend = AccessorBackend.reflection();
+                break;
+            case "lambdas":
+                accessorBackend = AccessorBackend.lambdas();
+                break;
+            default:
+                accessorBackend = AccessorBackend.methodHandles();
+        }
+
+        java.lang.reflect.Field nameField = BeanCompliantModel.class.getDeclaredField("name");
+        java.lang.reflect.Method nameGetter = BeanCompliantModel.class.getDeclaredMethod("getName");
+        java.lang.reflect.Constructor<?> defaultConstructor = BeanCompliantModel.class.getDeclaredConstructor();
+        nameField.setAccessible(true);
+        nameGetter.setAccessible(true);
+        defaultConstructor.setAccessible(true);
+
+        field = accessorBackend.field(nameField);
+        getter = accessorBackend.method(nameGetter);
+        constructor = accessorBackend.constructor(defaultConstructor);
+        instance = new BeanCompliantModel();
+    }
+
+    @Benchmark
+    public void field_get(Blackhole blackhole) throws Throwable {
+        blackhole.consume(field.get(instance));
+    }
+
+    @Benchmark
+    public void field_set() throws Throwable {
+        field.set(instance, "name");
+    }
+
+    @Benchmark
+    public void method_invoke(Blackhole blackhole) throws Throwable {
+        blackhole.consume(getter.invoke(instance, NO_ARGUMENTS));
+    }
+
+    @Benchmark
+    public void constructor_newInstance(Blackhole blackhole) throws Throwable {
+        blackhole.consume(constructor.newInstance(NO_ARGUMENTS));
+    }
+}
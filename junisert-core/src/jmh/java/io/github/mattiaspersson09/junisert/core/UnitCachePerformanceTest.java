@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.core;
+
+import io.github.mattiaspersson09.junisert.api.assertion.Exclusion;
+import io.github.mattiaspersson09.junisert.common.reflection.Unit;
+import io.github.mattiaspersson09.junisert.core.assertion.AssertionResource;
+import io.github.mattiaspersson09.junisert.core.assertion.PlainObjectAssertionImpl;
+import io.github.mattiaspersson09.junisert.core.units.ExpensivePojo;
+import io.github.mattiaspersson09.junisert.core.units.VeryExpensiveImmutable;
+import io.github.mattiaspersson09.junisert.testunits.unit.bean.BeanCompliantModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@SuppressWarnings("unused")
+@State(Scope.Benchmark)
+public class UnitCachePerformanceTest {
+    @Benchmark
+    public void unit_reflectedEveryTime(Blackhole blackhole) {
+        blackhole.consume(Unit.of(VeryExpensiveImmutable.class));
+    }
+
+    @Benchmark
+    public void unit_cached(Blackhole blackhole) {
+        blackhole.consume(Unit.cached(VeryExpensiveImmutable.class));
+    }
+
+    @Benchmark
+    public void expensiveUnit_reflectedUnit() {
+        // Same as before units were cached, reflecting the unit for every assertion
+        assertThatPojo(Unit.of(ExpensivePojo.class)).isWellImplemented();
+    }
+
+    @Benchmark
+    public void expensiveUnit_cachedUnit() {
+        assertThatPojo(Unit.cached(ExpensivePojo.class)).isWellImplemented();
+    }
+
+    @Benchmark
+    public void simpleUnit_reflectedUnit() {
+        assertThatPojo(Unit.of(BeanCompliantModel.class)).isWellImplemented();
+    }
+
+    @Benchmark
+    public void simpleUnit_cachedUnit() {
+        assertThatPojo(Unit.cached(BeanCompliantModel.class)).isWellImplemented();
+    }
+
+    // Same resources as Junisert.assertThatPojo, but with given unit under assertion
+    private static PlainObjectAssertionImpl assertThatPojo(Unit unit) {
+        return new PlainObjectAssertionImpl(new AssertionResource(
+                unit,
+                SupportRegistry.get().instanceCreator(),
+                SingletonValueService.getInstance(),
+                Exclusion.exclude()
+                        .fieldMatching(field -> !field.isInstanceMember())
+                        .methodMatching(method -> !method.isInstanceMember())
+                        .build()
+        ));
+    }
+}
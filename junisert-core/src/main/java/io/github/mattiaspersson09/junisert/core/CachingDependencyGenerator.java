@@ -19,6 +19,8 @@ import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
 import io.github.mattiaspersson09.junisert.api.value.Value;
 import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
 
+import java.util.Optional;
+
 /**
  * Responsible for creating dependency values, used when creating units and its dependencies needs to be cached.
  */
@@ -46,4 +48,9 @@ public final class CachingDependencyGenerator implements ValueGenerator<Object>
     public boolean supports(Class<?> type) {
         return dependencySupport.supports(type);
     }
+
+    @Override
+    public Optional<Value<?>> tryGenerate(Class<?> type) {
+        return dependencySupport.tryGenerate(type).map(value -> valueCache.save(type, value));
+    }
 }
@@ -18,8 +18,6 @@ package io.github.mattiaspersson09.junisert.core;
 import io.github.mattiaspersson09.junisert.api.assertion.Exclusion;
 import io.github.mattiaspersson09.junisert.api.assertion.PlainObjectAssertion;
 import io.github.mattiaspersson09.junisert.api.assertion.UnitAssertion;
-import io.github.mattiaspersson09.junisert.api.internal.support.AggregatedSupportGenerator;
-import io.github.mattiaspersson09.junisert.api.internal.support.AggregatedValueGenerator;
 import io.github.mattiaspersson09.junisert.api.value.Value;
 import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
 import io.github.mattiaspersson09.junisert.common.logging.Logger;
@@ -27,7 +25,6 @@ import io.github.mattiaspersson09.junisert.common.reflection.Unit;
 import io.github.mattiaspersson09.junisert.core.assertion.AssertionResource;
 import io.github.mattiaspersson09.junisert.core.assertion.PlainObjectAssertionImpl;
 import io.github.mattiaspersson09.junisert.core.assertion.UnitAssertionImpl;
-import io.github.mattiaspersson09.junisert.core.internal.InstanceCreator;
 
 import java.util.function.Supplier;
 
@@ -147,17 +144,10 @@ public final class Junisert {
     }
 
     private static AssertionResource getAssertionResource(Class<?> unitClass) {
-        AggregatedValueGenerator valueSupport = SupportRegistry.get()
-                .defaultValueSupport()
-                .mergeFirst(new AggregatedSupportGenerator(SupportRegistry.get().registeredSupport()));
-
-        ValueGenerator<?> cachingValueSupport = new CachingDependencyGenerator(valueSupport,
-                SupportRegistry.get().cache());
-
         // Start with excluding non-instance members, no current assertion is interested in statics or synthetics
         return new AssertionResource(
-                Unit.of(unitClass),
-                InstanceCreator.usingConstructor(cachingValueSupport, INSTANCE_DEPENDENCY_DEPTH),
+                Unit.cached(unitClass),
+                SupportRegistry.get().instanceCreator(),
                 SingletonValueService.getInstance(),
                 Exclusion.exclude()
                         .fieldMatching(field -> !field.isInstanceMember())
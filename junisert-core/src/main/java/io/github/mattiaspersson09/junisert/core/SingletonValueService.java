@@ -15,7 +15,6 @@
  */
 package io.github.mattiaspersson09.junisert.core;
 
-import io.github.mattiaspersson09.junisert.api.internal.support.AggregatedValueGenerator;
 import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
 import io.github.mattiaspersson09.junisert.api.value.Value;
 import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
@@ -26,27 +25,25 @@ import io.github.mattiaspersson09.junisert.value.common.DependencyObjectValueGen
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 final class SingletonValueService implements ValueService {
     private static final Logger LOGGER = Logger.getLogger(SingletonValueService.class);
     private static volatile SingletonValueService INSTANCE;
 
-    private final List<ValueGenerator<?>> valueSupport;
+    private final DependencyObjectValueGenerator dependencySupport;
     private final ValueCache valueCache;
+    // Default support is never rebuilt by the registry, so the view only needs to be created once
+    private final List<ValueGenerator<?>> registeredSupport;
 
     SingletonValueService(ValueCache valueCache) {
-        this.valueSupport = new ArrayList<>();
         this.valueCache = valueCache;
-
-        AggregatedValueGenerator defaultSupport = SupportRegistry.get().defaultValueSupport();
-        DependencyObjectValueGenerator dependencyObjectValueGenerator = DependencyObjectValueGenerator
-                .buildDependencySupport(defaultSupport)
+        this.dependencySupport = DependencyObjectValueGenerator
+                .buildDependencySupport(SupportRegistry.get().defaultValueSupport())
                 .withForcedAccess()
                 .withMaxDependencyDepth(Junisert.INSTANCE_DEPENDENCY_DEPTH)
                 .build();
-
-        this.valueSupport.addAll(defaultSupport.aggregated());
-        this.valueSupport.add(dependencyObjectValueGenerator);
+        this.registeredSupport = createRegisteredSupport(dependencySupport);
     }
 
     static synchronized SingletonValueService getInstance() {
@@ -59,29 +56,28 @@ final class SingletonValueService implements ValueService {
 
     @Override
     public Value<?> getValue(Class<?> type) {
-        List<ValueGenerator<?>> userDefinedSupport = SupportRegistry.get().registeredSupport();
-
-        // Prioritize user defined support
-        for (ValueGenerator<?> userSupport : userDefinedSupport) {
-            if (userSupport.supports(type)) {
-                return valueCache.save(type, userSupport.generate(type));
-            }
-        }
+        // Registry support is layered with user defined support first, objects with dependencies are last resort
+        Optional<? extends Value<?>> value = SupportRegistry.get().valueSupport().tryGenerate(type);
 
-        for (ValueGenerator<?> generator : valueSupport) {
-            if (generator.supports(type)) {
-                return valueCache.save(type, generator.generate(type));
-            }
+        if (!value.isPresent()) {
+            value = dependencySupport.tryGenerate(type);
         }
 
-        throw new UnsupportedTypeError(type);
+        return valueCache.save(type, value.orElseThrow(() -> new UnsupportedTypeError(type)));
     }
 
     int supportSize() {
-        return valueSupport.size();
+        return registeredSupport.size();
     }
 
     List<ValueGenerator<?>> getRegisteredSupport() {
-        return Collections.unmodifiableList(valueSupport);
+        return registeredSupport;
+    }
+
+    private static List<ValueGenerator<?>> createRegisteredSupport(ValueGenerator<?> dependencySupport) {
+        List<ValueGenerator<?>> support = new ArrayList<>(SupportRegistry.get().defaultValueSupport().aggregated());
+        support.add(dependencySupport);
+
+        return Collections.unmodifiableList(support);
     }
 }
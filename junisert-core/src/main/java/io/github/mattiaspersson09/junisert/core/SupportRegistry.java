@@ -17,11 +17,15 @@ package io.github.mattiaspersson09.junisert.core;
 
 import io.github.mattiaspersson09.junisert.api.internal.support.AggregatedSupportGenerator;
 import io.github.mattiaspersson09.junisert.api.internal.support.AggregatedValueGenerator;
+import io.github.mattiaspersson09.junisert.api.internal.support.LayeredSupportGenerator;
 import io.github.mattiaspersson09.junisert.api.internal.support.SupportBuilder;
 import io.github.mattiaspersson09.junisert.api.value.Value;
 import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
+import io.github.mattiaspersson09.junisert.api.value.ValueSupportProvider;
 import io.github.mattiaspersson09.junisert.common.logging.Logger;
+import io.github.mattiaspersson09.junisert.core.internal.InstanceCreator;
 import io.github.mattiaspersson09.junisert.core.internal.support.PrimitiveSupport;
+import io.github.mattiaspersson09.junisert.core.internal.support.ProvidedSupport;
 import io.github.mattiaspersson09.junisert.core.internal.support.SortableSupport;
 import io.github.mattiaspersson09.junisert.core.internal.support.SupportComparator;
 import io.github.mattiaspersson09.junisert.value.common.ArrayValueGenerator;
@@ -35,19 +39,34 @@ import io.github.mattiaspersson09.junisert.value.java.JavaInternals;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 
 /**
  * Registry responsible for holding default value support and globally registered user support.
+ * <p>
+ * Support from every {@link ValueSupportProvider} found with {@link ServiceLoader} is also globally registered,
+ * after support registered by the user. Provided support is only created when a type handled by its provider is
+ * first requested.
+ * <p>
+ * Registered support and default support is layered, see {@link #valueSupport()}. Layers are immutable snapshots
+ * shared by every assertion, replaced when support is registered or cleared.
  */
 public final class SupportRegistry {
     private static final Logger LOGGER = Logger.getLogger(SupportRegistry.class);
+    private static final SupportComparator SUPPORT_ORDER = new SupportComparator();
     private static volatile SupportRegistry instance;
 
     private final Object mutex = new Object();
     private final AggregatedValueGenerator defaultValueSupport;
     private final List<ValueGenerator<?>> registeredSupport;
+    private final List<ValueGenerator<?>> providedSupport;
     private final ValueCache valueCache;
+    private volatile List<ValueGenerator<?>> globalSupport;
+    private volatile AggregatedValueGenerator valueSupport;
+    private volatile InstanceCreator instanceCreator;
 
     private SupportRegistry() {
         LOGGER.config("Initializing default value support");
@@ -64,6 +83,8 @@ public final class SupportRegistry {
         LOGGER.config("Initializing value cache");
         valueCache = new ValueCache();
         registeredSupport = new ArrayList<>();
+        providedSupport = discoverProvidedSupport();
+        updateGlobalSupport();
     }
 
     /**
@@ -118,20 +139,32 @@ public final class SupportRegistry {
     }
 
     /**
-     * Gets unmodifiable view of the user's currently global registered support.
+     * Gets unmodifiable view of the user's currently global registered support, followed by support from
+     * discovered {@link ValueSupportProvider}'s.
      *
      * @return unmodifiable registered support
      */
     public List<ValueGenerator<?>> registeredSupport() {
-        synchronized (mutex) {
-            return Collections.unmodifiableList(registeredSupport);
-        }
+        return globalSupport;
+    }
+
+    /**
+     * Gets value support layered with the user's currently global registered support first, followed by the
+     * default value support. Both layers memoize their resolution for every assertion sharing them.
+     *
+     * @return layered value support
+     * @see #registeredSupport()
+     * @see #defaultValueSupport()
+     */
+    public AggregatedValueGenerator valueSupport() {
+        return valueSupport;
     }
 
     SupportRegistry register(ValueGenerator<?> support) {
         synchronized (mutex) {
-            registeredSupport.add(SortableSupport.toSortable(support));
-            registeredSupport.sort(new SupportComparator());
+            ValueGenerator<?> sortable = SortableSupport.toSortable(support);
+            registeredSupport.add(sortedPosition(registeredSupport, sortable), sortable);
+            updateGlobalSupport();
         }
         LOGGER.config("Registered global support: {0}", support);
 
@@ -141,11 +174,89 @@ public final class SupportRegistry {
     void clearRegisteredSupport() {
         synchronized (mutex) {
             registeredSupport.clear();
+            updateGlobalSupport();
+        }
+    }
+
+    InstanceCreator instanceCreator() {
+        InstanceCreator current = instanceCreator;
+
+        if (current == null) {
+            synchronized (mutex) {
+                current = instanceCreator;
+
+                if (current == null) {
+                    current = InstanceCreator.usingConstructor(new CachingDependencyGenerator(valueSupport, valueCache),
+                            Junisert.INSTANCE_DEPENDENCY_DEPTH);
+                    instanceCreator = current;
+                }
+            }
         }
+
+        return current;
     }
 
     void clearCache() {
-        valueCache.clear();
+        synchronized (mutex) {
+            valueCache.clear();
+            // Instance creator is recreated with fresh compiled instance factories
+            instanceCreator = null;
+        }
+    }
+
+    private void updateGlobalSupport() {
+        List<ValueGenerator<?>> support = new ArrayList<>(registeredSupport.size() + providedSupport.size());
+        support.addAll(registeredSupport);
+        support.addAll(providedSupport);
+        globalSupport = Collections.unmodifiableList(support);
+        valueSupport = new LayeredSupportGenerator(new AggregatedSupportGenerator(support), defaultValueSupport);
+        instanceCreator = null;
+    }
+
+    private static List<ValueGenerator<?>> discoverProvidedSupport() {
+        LOGGER.config("Discovering provided value support");
+        List<ValueGenerator<?>> discovered = new ArrayList<>();
+        Iterator<ValueSupportProvider> providers = ServiceLoader.load(ValueSupportProvider.class).iterator();
+
+        while (hasNextProvider(providers)) {
+            try {
+                ValueSupportProvider provider = providers.next();
+                discovered.add(new ProvidedSupport(provider));
+                LOGGER.config("Discovered value support provider: {0}", provider.getClass().getName());
+            } catch (ServiceConfigurationError e) {
+                LOGGER.warn("Skipping value support provider that could not be loaded: {0}", e.getMessage());
+            }
+        }
+
+        return discovered;
+    }
+
+    // A failing lookup of the next provider may keep failing, so discovery stops instead of retrying it
+    private static boolean hasNextProvider(Iterator<ValueSupportProvider> providers) {
+        try {
+            return providers.hasNext();
+        } catch (ServiceConfigurationError e) {
+            LOGGER.warn("Stopping discovery of value support providers: {0}", e.getMessage());
+            return false;
+        }
+    }
+
+    // Registered support is kept sorted, placing support first where it's ordered before the support there
+    private static int sortedPosition(List<ValueGenerator<?>> sortedSupport, ValueGenerator<?> support) {
+        int low = 0;
+        int high = sortedSupport.size();
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (SUPPORT_ORDER.compare(support, sortedSupport.get(middle)) < 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+
+        return low;
     }
 
     private ValueGenerator<?> createJavaInternalSupport() {
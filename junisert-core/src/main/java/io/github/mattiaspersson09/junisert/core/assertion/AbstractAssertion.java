@@ -39,7 +39,7 @@ import io.github.mattiaspersson09.junisert.core.internal.test.AbstractUnitTest;
 import io.github.mattiaspersson09.junisert.core.internal.test.UnitTest;
 import io.github.mattiaspersson09.junisert.value.common.DependencyObjectValueGenerator;
 
-import java.util.Collections;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 /**
@@ -53,6 +53,16 @@ abstract class AbstractAssertion<A> implements Assertion<A>, Excluder<A> {
     private final AssertionResource assertionResource;
     private final ValueCache assertionCache;
 
+    // Built when first needed and kept until more temporary support is added
+    private AggregatedValueGenerator temporarySupport;
+    private InstanceCreator temporaryInstanceCreator;
+    private ValueService temporaryValueService;
+    // Allocation and prototypes is kept for the whole assertion, until support or instance creation changes
+    private InstanceCreator allocatingInstanceCreator;
+    private InstanceCreator prototypeInstanceCreator;
+    private boolean instanceAllocation;
+    private boolean prototypeInstances;
+
     protected AbstractAssertion(AssertionResource assertionResource) {
         this.assertionResource = assertionResource;
         this.assertionCache = new ValueCache();
@@ -99,6 +109,29 @@ abstract class AbstractAssertion<A> implements Assertion<A>, Excluder<A> {
                 : createValueServiceWithTemporarySupport();
     }
 
+    /**
+     * Sets if instances of mutable units should be allocated without running any constructor, where possible.
+     * Units that can't be allocated is still created from their constructors.
+     *
+     * @param instanceAllocation true to allocate instances without constructors
+     */
+    protected final void withInstanceAllocation(boolean instanceAllocation) {
+        this.instanceAllocation = instanceAllocation;
+        this.allocatingInstanceCreator = null;
+        this.prototypeInstanceCreator = null;
+    }
+
+    /**
+     * Sets if instances of units should be copied from one fully created prototype per unit, where possible.
+     * Units that can't be copied is still created for every instance.
+     *
+     * @param prototypeInstances true to copy instances from prototypes
+     */
+    protected final void withPrototypeInstances(boolean prototypeInstances) {
+        this.prototypeInstances = prototypeInstances;
+        this.prototypeInstanceCreator = null;
+    }
+
     /**
      * Creates a qualified {@link UnitTest} and injects dependencies needed during construction.
      *
@@ -131,6 +164,11 @@ abstract class AbstractAssertion<A> implements Assertion<A>, Excluder<A> {
     public A withSupport(ValueGenerator<?> support) {
         assertionResource.getSupport().add(SortableSupport.toSortable(support));
         assertionResource.getSupport().sort(new SupportComparator());
+        temporarySupport = null;
+        temporaryInstanceCreator = null;
+        temporaryValueService = null;
+        allocatingInstanceCreator = null;
+        prototypeInstanceCreator = null;
         LOGGER.config("Registered assertion support: {0}", support);
         return (A) this;
     }
@@ -168,33 +206,63 @@ abstract class AbstractAssertion<A> implements Assertion<A>, Excluder<A> {
     }
 
     private InstanceCreator getInstanceCreator() {
-        return assertionResource.getSupport().isEmpty()
+        InstanceCreator instanceCreator = assertionResource.getSupport().isEmpty()
                 ? assertionResource.getInstanceCreator()
                 : createInstanceCreatorWithTemporarySupport();
+
+        if (instanceAllocation) {
+            if (allocatingInstanceCreator == null) {
+                allocatingInstanceCreator = InstanceCreator.allocatingOrElse(instanceCreator);
+            }
+
+            instanceCreator = allocatingInstanceCreator;
+        }
+
+        if (!prototypeInstances) {
+            return instanceCreator;
+        }
+
+        if (prototypeInstanceCreator == null) {
+            prototypeInstanceCreator = InstanceCreator.copyingPrototypesOf(instanceCreator);
+        }
+
+        return prototypeInstanceCreator;
     }
 
     private InstanceCreator createInstanceCreatorWithTemporarySupport() {
-        AggregatedValueGenerator support = new AggregatedSupportGenerator(assertionResource.getSupport())
-                .merge(new AggregatedSupportGenerator(SupportRegistry.get().registeredSupport()))
-                .merge(SupportRegistry.get().defaultValueSupport());
-
-        ValueGenerator<?> cachingValueSupport = new CachingDependencyGenerator(support, assertionCache);
+        if (temporaryInstanceCreator == null) {
+            ValueGenerator<?> cachingValueSupport = new CachingDependencyGenerator(getTemporarySupport(),
+                    assertionCache);
+            temporaryInstanceCreator = InstanceCreator.usingConstructor(cachingValueSupport,
+                    Junisert.INSTANCE_DEPENDENCY_DEPTH);
+        }
 
-        return InstanceCreator.usingConstructor(cachingValueSupport, Junisert.INSTANCE_DEPENDENCY_DEPTH);
+        return temporaryInstanceCreator;
     }
 
     private ValueService createValueServiceWithTemporarySupport() {
-        AggregatedValueGenerator support = SupportRegistry.get()
-                .defaultValueSupport()
-                .mergeFirst(new AggregatedSupportGenerator(assertionResource.getSupport()));
-        AggregatedValueGenerator temporary = new AggregatedSupportGenerator(Collections.singletonList(
-                DependencyObjectValueGenerator.buildDependencySupport(support)
-                        .withForcedAccess()
-                        .withMaxDependencyDepth(Junisert.INSTANCE_DEPENDENCY_DEPTH)
-                        .build()))
-                .mergeFirst(support);
+        if (temporaryValueService == null) {
+            AggregatedValueGenerator support = getTemporarySupport();
+            AggregatedValueGenerator temporary = support.merge(DependencyObjectValueGenerator
+                    .buildDependencySupport(support)
+                    .withForcedAccess()
+                    .withMaxDependencyDepth(Junisert.INSTANCE_DEPENDENCY_DEPTH)
+                    .build());
+            temporaryValueService = new TemporaryValueService(assertionResource.getValueService(), temporary);
+        }
 
-        return new TemporaryValueService(assertionResource.getValueService(), temporary);
+        return temporaryValueService;
+    }
+
+    private AggregatedValueGenerator getTemporarySupport() {
+        if (temporarySupport == null) {
+            // Temporary support layered before the shared registered and default layers, without copying them
+            temporarySupport = SupportRegistry.get()
+                    .valueSupport()
+                    .mergeFirst(new AggregatedSupportGenerator(assertionResource.getSupport()));
+        }
+
+        return temporarySupport;
     }
 
     static class TemporaryValueService implements ValueService {
@@ -208,8 +276,10 @@ abstract class AbstractAssertion<A> implements Assertion<A>, Excluder<A> {
 
         @Override
         public Value<?> getValue(Class<?> type) throws UnsupportedTypeError {
-            if (temporarySupport.supports(type)) {
-                return temporarySupport.generate(type);
+            Optional<? extends Value<?>> temporary = temporarySupport.tryGenerate(type);
+
+            if (temporary.isPresent()) {
+                return temporary.get();
             }
 
             return valueService.getValue(type);
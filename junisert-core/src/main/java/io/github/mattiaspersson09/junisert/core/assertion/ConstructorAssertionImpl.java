@@ -152,9 +152,7 @@ class ConstructorAssertionImpl<T> extends AbstractAssertion<ConstructorAssertion
     }
 
     private Field getUnitField(String propertyName) {
-        return getUnit().findFieldsMatching(f -> f.getName().equals(propertyName))
-                .stream()
-                .findFirst()
+        return getUnit().findField(propertyName)
                 .orElseThrow(() -> new UnitAssertionError("A property with name '" + propertyName + "'"
                         + " could not be found, is the name correct?"));
     }
@@ -30,6 +30,9 @@ import io.github.mattiaspersson09.junisert.core.internal.test.ImplementsToString
 public class PlainObjectAssertionImpl extends AbstractAssertion<PlainObjectAssertion> implements PlainObjectAssertion {
     private static final Logger LOGGER = Logger.getLogger(PlainObjectAssertion.class);
 
+    private boolean inheritedFields;
+    private boolean staticVerification;
+
     /**
      * Creates a new implementation of {@link PlainObjectAssertion}.
      *
@@ -41,7 +44,9 @@ public class PlainObjectAssertionImpl extends AbstractAssertion<PlainObjectAsser
 
     @Override
     public PlainObjectAssertion hasGetters() throws UnitAssertionError {
-        runTest(HasGetters.class);
+        createTest(HasGetters.class)
+                .withStaticVerification(staticVerification)
+                .test(getUnit());
 
         return this;
     }
@@ -53,15 +58,49 @@ public class PlainObjectAssertionImpl extends AbstractAssertion<PlainObjectAsser
             return this;
         }
 
-        runTest(HasSetters.class);
+        createTest(HasSetters.class)
+                .withStaticVerification(staticVerification)
+                .test(getUnit());
 
         return this;
     }
 
     @Override
     public PlainObjectAssertion implementsEqualsAndHashCode() throws UnitAssertionError {
-        runTest(ImplementsEquals.class);
-        runTest(ImplementsHashCode.class);
+        createTest(ImplementsEquals.class)
+                .withInheritedFields(inheritedFields)
+                .test(getUnit());
+        createTest(ImplementsHashCode.class)
+                .withInheritedFields(inheritedFields)
+                .test(getUnit());
+
+        return this;
+    }
+
+    @Override
+    public PlainObjectAssertion includingInheritedFields() {
+        this.inheritedFields = true;
+
+        return this;
+    }
+
+    @Override
+    public PlainObjectAssertion verifyingAccessorsStatically() {
+        this.staticVerification = true;
+
+        return this;
+    }
+
+    @Override
+    public PlainObjectAssertion creatingInstancesWithoutConstructors() {
+        withInstanceAllocation(true);
+
+        return this;
+    }
+
+    @Override
+    public PlainObjectAssertion creatingInstancesFromPrototypes() {
+        withPrototypeInstances(true);
 
         return this;
     }
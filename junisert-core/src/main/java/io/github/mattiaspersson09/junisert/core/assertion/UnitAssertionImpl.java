@@ -22,7 +22,6 @@ import io.github.mattiaspersson09.junisert.api.assertion.UnitAssertionError;
 import io.github.mattiaspersson09.junisert.common.logging.Logger;
 import io.github.mattiaspersson09.junisert.common.reflection.Constructor;
 import io.github.mattiaspersson09.junisert.common.reflection.Unit;
-import io.github.mattiaspersson09.junisert.common.reflection.util.Methods;
 import io.github.mattiaspersson09.junisert.core.internal.test.HasGetters;
 import io.github.mattiaspersson09.junisert.core.internal.test.HasSetters;
 import io.github.mattiaspersson09.junisert.core.internal.test.strategy.TestStrategy;
@@ -85,15 +84,15 @@ public class UnitAssertionImpl<T> extends AbstractAssertion<UnitAssertion<T>> im
                     unit.getName(), Serializable.class.getName());
         }
 
-        if (!unit.hasMethodMatching(Methods::isEqualsMethod)) {
+        if (!unit.declaresEquals()) {
             LOGGER.warn("{0} should override equals(Object)", unit.getName());
         }
 
-        if (!unit.hasMethodMatching(Methods::isHashCodeMethod)) {
+        if (!unit.declaresHashCode()) {
             LOGGER.warn("{0} should override hashCode()", unit.getName());
         }
 
-        if (!unit.hasMethodMatching(Methods::isToStringMethod)) {
+        if (!unit.declaresToString()) {
             LOGGER.warn("{0} should override toString()", unit.getName());
         }
 
@@ -113,9 +112,7 @@ public class UnitAssertionImpl<T> extends AbstractAssertion<UnitAssertion<T>> im
 
     @Override
     public ConstructorAssertion<T> whenCreatedFromConstructor(Class<?>... parameters) {
-        Constructor constructor = getUnit().findConstructorsMatching(c -> c.hasParameters(parameters))
-                .stream()
-                .findFirst()
+        Constructor constructor = getUnit().findConstructor(parameters)
                 .orElseThrow(() -> new UnitAssertionError(String.format("Couldn't find a matching constructor"
                         + "\nExpected unit: %s\nTo have a constructor with parameters: %s",
                         getUnit().getName(), Arrays.asList(parameters))));
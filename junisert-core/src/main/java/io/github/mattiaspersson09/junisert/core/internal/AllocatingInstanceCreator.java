@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.core.internal;
+
+import io.github.mattiaspersson09.junisert.api.value.UnsupportedConstructionError;
+import io.github.mattiaspersson09.junisert.common.logging.Logger;
+import io.github.mattiaspersson09.junisert.common.reflection.Unit;
+import io.github.mattiaspersson09.junisert.value.common.TypeClassifier;
+import io.github.mattiaspersson09.junisert.value.common.TypeClassifier.Kind;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Creates instances of mutable units without running any of their constructors, leaving every instance field
+ * with its default value ({@code null}, {@code 0} or {@code false}) until it's set. Immutable units, and units that
+ * can't be allocated on the running JVM, is created by a fallback {@link InstanceCreator} instead.<br>
+ * <br>
+ * Allocation uses the serialization constructor of the unit, or {@code allocateInstance} if unavailable,
+ * which are both reached reflectively from the {@code jdk.unsupported} module.
+ */
+final class AllocatingInstanceCreator implements InstanceCreator {
+    private static final Logger LOGGER = Logger.getLogger(AllocatingInstanceCreator.class);
+    private static final Function<Class<?>, Supplier<Object>> ALLOCATION = findAllocation();
+    private static final ClassValue<Optional<Supplier<Object>>> ALLOCATORS =
+            new ClassValue<Optional<Supplier<Object>>>() {
+                @Override
+                protected Optional<Supplier<Object>> computeValue(Class<?> type) {
+                    return createAllocator(type);
+                }
+            };
+    private static final ClassValue<Optional<Supplier<Object>>> UNIT_ALLOCATORS =
+            new ClassValue<Optional<Supplier<Object>>>() {
+                @Override
+                protected Optional<Supplier<Object>> computeValue(Class<?> type) {
+                    return ALLOCATORS.get(type).filter(allocator -> !Unit.cached(type).isImmutable());
+                }
+            };
+
+    private final InstanceCreator fallback;
+
+    AllocatingInstanceCreator(InstanceCreator fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Object createInstance(Class<?> unitClass) {
+        Optional<Supplier<Object>> allocator = UNIT_ALLOCATORS.get(unitClass);
+        return allocator.isPresent() ? allocator.get().get() : fallback.createInstance(unitClass);
+    }
+
+    /**
+     * Checks if instances of {@code unitClass} is allocated without a constructor.
+     *
+     * @param unitClass to check
+     * @return true if allocated without a constructor, false if created by fallback
+     */
+    static boolean isAllocated(Class<?> unitClass) {
+        return UNIT_ALLOCATORS.get(unitClass).isPresent();
+    }
+
+    /**
+     * Finds an allocator of {@code type} instances which doesn't run any constructor, whether the type is
+     * immutable or not.
+     *
+     * @param type to allocate instances of
+     * @return allocator, or empty if instances of type can't be allocated
+     */
+    static Optional<Supplier<Object>> findAllocator(Class<?> type) {
+        return ALLOCATORS.get(type);
+    }
+
+    private static Optional<Supplier<Object>> createAllocator(Class<?> type) {
+        if (ALLOCATION == null || TypeClassifier.kindOf(type) != Kind.CONCRETE) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(ALLOCATION.apply(type));
+        } catch (RuntimeException e) {
+            LOGGER.info("Unable to allocate <{0}> without a constructor, using constructors instead", type);
+            return Optional.empty();
+        }
+    }
+
+    private static Function<Class<?>, Supplier<Object>> findAllocation() {
+        try {
+            return findSerializationConstructorAllocation();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.config("Serialization constructors unavailable: {0}", e);
+        }
+
+        try {
+            return findUnsafeAllocation();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.config("Instance allocation unavailable, using constructors instead: {0}", e);
+        }
+
+        return null;
+    }
+
+    private static Function<Class<?>, Supplier<Object>> findSerializationConstructorAllocation()
+            throws ReflectiveOperationException {
+        Class<?> reflectionFactoryClass = Class.forName("sun.reflect.ReflectionFactory");
+        Object reflectionFactory = reflectionFactoryClass.getMethod("getReflectionFactory").invoke(null);
+        Method newConstructorForSerialization = reflectionFactoryClass.getMethod("newConstructorForSerialization",
+                Class.class, Constructor.class);
+        Constructor<Object> objectConstructor = Object.class.getDeclaredConstructor();
+
+        return type -> {
+            try {
+                Constructor<?> constructor = (Constructor<?>) newConstructorForSerialization.invoke(reflectionFactory,
+                        type, objectConstructor);
+                constructor.setAccessible(true);
+
+                return () -> {
+                    try {
+                        return constructor.newInstance();
+                    } catch (ReflectiveOperationException e) {
+                        throw new UnsupportedConstructionError(type, e);
+                    }
+                };
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static Function<Class<?>, Supplier<Object>> findUnsafeAllocation() throws ReflectiveOperationException {
+        Field theUnsafe = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+        theUnsafe.setAccessible(true);
+        Object unsafe = theUnsafe.get(null);
+        Method allocateInstance = unsafe.getClass().getMethod("allocateInstance", Class.class);
+
+        return type -> () -> {
+            try {
+                return allocateInstance.invoke(unsafe, type);
+            } catch (ReflectiveOperationException e) {
+                throw new UnsupportedConstructionError(type, e);
+            }
+        };
+    }
+}
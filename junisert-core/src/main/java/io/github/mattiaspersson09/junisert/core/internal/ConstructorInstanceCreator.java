@@ -23,6 +23,8 @@ import io.github.mattiaspersson09.junisert.value.common.ObjectValueGenerator;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Helps create unit instances for tests. Using supplied {@link ValueGenerator} or default object generators,
@@ -31,32 +33,72 @@ import java.util.Objects;
  * This class or similar class only for instances is needed to construct instances without a cache.
  * Using {@link ValueService} with a cache would produce error-prone tests.
  * Unit instances needs to be <em>unique</em>, caching instances will force references to be used
- * and updating a field in one instance will affect other instances of the same type.
+ * and updating a field in one instance will affect other instances of the same type.<br>
+ * <br>
+ * How to create instances of a unit is resolved on first use and reused afterward. When created with dependency
+ * support, units is created from a factory compiled by the object generators whenever one can be compiled.
  */
 final class ConstructorInstanceCreator implements InstanceCreator {
     private final ValueGenerator<?> instanceGenerator;
+    private final ObjectValueGenerator objectGenerator;
+    private final DependencyObjectValueGenerator dependencyObjectGenerator;
+    private final ClassValue<Supplier<Object>> factories;
 
     ConstructorInstanceCreator(ValueGenerator<?> instanceGenerator) {
-        this.instanceGenerator = instanceGenerator;
+        this(instanceGenerator, null, null);
     }
 
     ConstructorInstanceCreator(ValueGenerator<?> dependencySupport, int dependencyDepth) {
-        Objects.requireNonNull(dependencySupport);
-        this.instanceGenerator = new AggregatedSupportGenerator(Arrays.asList(
-                ObjectValueGenerator.withForcedAccess(),
-                DependencyObjectValueGenerator.buildDependencySupport(dependencySupport)
-                        .withForcedAccess()
-                        .withMaxDependencyDepth(Math.max(dependencyDepth, 0))
-                        .build()
-        ));
+        this(ObjectValueGenerator.withForcedAccess(),
+             DependencyObjectValueGenerator.buildDependencySupport(Objects.requireNonNull(dependencySupport))
+                     .withForcedAccess()
+                     .withMaxDependencyDepth(Math.max(dependencyDepth, 0))
+                     .build());
+    }
+
+    private ConstructorInstanceCreator(ObjectValueGenerator objectGenerator,
+                                       DependencyObjectValueGenerator dependencyObjectGenerator) {
+        this(new AggregatedSupportGenerator(Arrays.asList(objectGenerator, dependencyObjectGenerator)),
+             objectGenerator, dependencyObjectGenerator);
+    }
+
+    private ConstructorInstanceCreator(ValueGenerator<?> instanceGenerator,
+                                       ObjectValueGenerator objectGenerator,
+                                       DependencyObjectValueGenerator dependencyObjectGenerator) {
+        this.instanceGenerator = instanceGenerator;
+        this.objectGenerator = objectGenerator;
+        this.dependencyObjectGenerator = dependencyObjectGenerator;
+        this.factories = new ClassValue<Supplier<Object>>() {
+            @Override
+            protected Supplier<Object> computeValue(Class<?> unitClass) {
+                return createFactory(unitClass);
+            }
+        };
     }
 
     @Override
     public Object createInstance(Class<?> unitClass) {
-        if (!instanceGenerator.supports(unitClass)) {
-            throw new UnsupportedTypeError(unitClass);
+        return factories.get(unitClass).get();
+    }
+
+    private Supplier<Object> createFactory(Class<?> unitClass) {
+        if (objectGenerator != null && dependencyObjectGenerator != null) {
+            // Same priority as the aggregated instance generator
+            Optional<Supplier<Object>> compiled = objectGenerator.compileFactory(unitClass);
+
+            if (!compiled.isPresent()) {
+                compiled = dependencyObjectGenerator.compileFactory(unitClass);
+            }
+
+            if (compiled.isPresent()) {
+                return compiled.get();
+            }
         }
 
-        return instanceGenerator.generate(unitClass).get();
+        // Factories is stored per unit class and must never reference this creator, or it would never be released
+        ValueGenerator<?> generator = instanceGenerator;
+        return () -> generator.tryGenerate(unitClass)
+                .orElseThrow(() -> new UnsupportedTypeError(unitClass))
+                .get();
     }
 }
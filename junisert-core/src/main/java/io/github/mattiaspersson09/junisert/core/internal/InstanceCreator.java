@@ -46,7 +46,7 @@ public interface InstanceCreator {
     /**
      * Creates an instance creator which constructs instances using unit constructors.
      *
-     * @param dependencySupport that creates values for unit dependencies
+     * @param dependencySupport that creates and caches values for unit dependencies
      * @param dependencyDepth   max depth the creator can go using reflection if needed
      * @return new instance creator
      * @see ObjectValueGenerator
@@ -55,4 +55,28 @@ public interface InstanceCreator {
     static InstanceCreator usingConstructor(ValueGenerator<?> dependencySupport, int dependencyDepth) {
         return new ConstructorInstanceCreator(dependencySupport, dependencyDepth);
     }
+
+    /**
+     * Creates an instance creator which allocates instances of mutable units without running any constructor,
+     * leaving every instance field with its default value. Units which can't be allocated, or is immutable,
+     * is created by {@code fallback} instead.
+     *
+     * @param fallback creating instances of units that can't be allocated
+     * @return new instance creator
+     */
+    static InstanceCreator allocatingOrElse(InstanceCreator fallback) {
+        return new AllocatingInstanceCreator(fallback);
+    }
+
+    /**
+     * Creates an instance creator which creates one prototype per unit with {@code delegate}, and then creates
+     * instances by copying every instance field of the prototype. Units which can't be copied is created by
+     * {@code delegate} instead.
+     *
+     * @param delegate creating prototypes, and instances of units that can't be copied
+     * @return new instance creator
+     */
+    static InstanceCreator copyingPrototypesOf(InstanceCreator delegate) {
+        return new PrototypeInstanceCreator(delegate);
+    }
 }
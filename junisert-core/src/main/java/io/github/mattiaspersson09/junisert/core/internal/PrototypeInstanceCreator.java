@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.core.internal;
+
+import io.github.mattiaspersson09.junisert.api.value.UnsupportedConstructionError;
+import io.github.mattiaspersson09.junisert.common.logging.Logger;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Creates one fully constructed prototype per unit with a delegating {@link InstanceCreator}, and then hands out
+ * copies of the prototype. Copies are allocated without running a constructor and every instance field is copied
+ * from the prototype by a compiled field copier. Copies are shallow, so field values are shared with the prototype
+ * the same way cached dependency values are shared between constructed instances.<br>
+ * <br>
+ * Units that can't be allocated, or having fields that can't be accessed, is always created by the delegating
+ * instance creator.
+ */
+final class PrototypeInstanceCreator implements InstanceCreator {
+    private static final Logger LOGGER = Logger.getLogger(PrototypeInstanceCreator.class);
+    private static final ClassValue<Optional<FieldCopier>> COPIERS = new ClassValue<Optional<FieldCopier>>() {
+        @Override
+        protected Optional<FieldCopier> computeValue(Class<?> type) {
+            return FieldCopier.compile(type);
+        }
+    };
+
+    private final InstanceCreator delegate;
+    private final ClassValue<Supplier<Object>> factories;
+
+    PrototypeInstanceCreator(InstanceCreator delegate) {
+        this.delegate = delegate;
+        this.factories = new ClassValue<Supplier<Object>>() {
+            @Override
+            protected Supplier<Object> computeValue(Class<?> unitClass) {
+                return createFactory(unitClass);
+            }
+        };
+    }
+
+    @Override
+    public Object createInstance(Class<?> unitClass) {
+        return factories.get(unitClass).get();
+    }
+
+    private Supplier<Object> createFactory(Class<?> unitClass) {
+        Optional<Supplier<Object>> allocator = AllocatingInstanceCreator.findAllocator(unitClass);
+        Optional<FieldCopier> copier = allocator.isPresent() ? COPIERS.get(unitClass) : Optional.empty();
+
+        // Factories is stored per unit class and must never reference this creator, or it would never be released
+        InstanceCreator instanceCreator = delegate;
+
+        if (!copier.isPresent()) {
+            return () -> instanceCreator.createInstance(unitClass);
+        }
+
+        // Would throw the same way as creating the unit without a prototype, and is tried again next time
+        Object prototype = instanceCreator.createInstance(unitClass);
+        Supplier<Object> allocate = allocator.get();
+        FieldCopier fieldCopier = copier.get();
+        LOGGER.info("Created prototype instance of: {0}", unitClass);
+
+        return () -> {
+            Object copy = allocate.get();
+            fieldCopier.copy(prototype, copy);
+            return copy;
+        };
+    }
+
+    private static final class FieldCopier {
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+        private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+        private final Class<?> type;
+        private final MethodHandle[] getters;
+        private final MethodHandle[] setters;
+
+        private FieldCopier(Class<?> type, MethodHandle[] getters, MethodHandle[] setters) {
+            this.type = type;
+            this.getters = getters;
+            this.setters = setters;
+        }
+
+        static Optional<FieldCopier> compile(Class<?> type) {
+            List<MethodHandle> getters = new ArrayList<>();
+            List<MethodHandle> setters = new ArrayList<>();
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            try {
+                for (Class<?> current = type; current != null && current != Object.class;
+                     current = current.getSuperclass()) {
+                    for (Field field : current.getDeclaredFields()) {
+                        if (Modifier.isStatic(field.getModifiers())) {
+                            continue;
+                        }
+
+                        field.setAccessible(true);
+                        getters.add(lookup.unreflectGetter(field).asType(GETTER_TYPE));
+                        setters.add(lookup.unreflectSetter(field).asType(SETTER_TYPE));
+                    }
+                }
+            } catch (RuntimeException | IllegalAccessException e) {
+                LOGGER.info("Unable to copy fields of <{0}>, creating every instance instead", type);
+                return Optional.empty();
+            }
+
+            return Optional.of(new FieldCopier(type,
+                    getters.toArray(new MethodHandle[0]),
+                    setters.toArray(new MethodHandle[0])));
+        }
+
+        void copy(Object source, Object target) {
+            try {
+                for (int i = 0; i < getters.length; i++) {
+                    setters[i].invokeExact(target, (Object) getters[i].invokeExact(source));
+                }
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UnsupportedConstructionError(type, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.core.internal.support;
+
+import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
+import io.github.mattiaspersson09.junisert.api.value.Value;
+import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
+import io.github.mattiaspersson09.junisert.api.value.ValueSupportProvider;
+import io.github.mattiaspersson09.junisert.common.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Support from a {@link ValueSupportProvider}, only creating the provided support when a type handled by the
+ * provider is first requested. Types not handled by the provider is never supported, without creating the support.
+ */
+public final class ProvidedSupport implements ValueGenerator<Object> {
+    private static final Logger LOGGER = Logger.getLogger(ProvidedSupport.class);
+
+    private final ValueSupportProvider provider;
+    private final List<String> packagePrefixes;
+    private final List<Class<?>> rootTypes;
+    private final ClassValue<Boolean> handled;
+    private volatile ValueGenerator<?> support;
+
+    /**
+     * Creates a new lazily activated support from {@code provider}.
+     *
+     * @param provider declaring handled types and creating the support
+     */
+    public ProvidedSupport(ValueSupportProvider provider) {
+        this.provider = provider;
+        this.packagePrefixes = new ArrayList<>(provider.packagePrefixes());
+        this.rootTypes = new ArrayList<>(provider.rootTypes());
+        this.handled = new ClassValue<Boolean>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                return isHandled(type);
+            }
+        };
+    }
+
+    @Override
+    public Value<?> generate(Class<?> fromType) throws UnsupportedTypeError {
+        if (!handles(fromType)) {
+            throw new UnsupportedTypeError(fromType);
+        }
+
+        return new UserValue(getSupport().generate(fromType));
+    }
+
+    @Override
+    public boolean supports(Class<?> type) {
+        return handles(type) && getSupport().supports(type);
+    }
+
+    @Override
+    public Optional<Value<?>> tryGenerate(Class<?> type) {
+        return handles(type) ? getSupport().tryGenerate(type).map(UserValue::new) : Optional.empty();
+    }
+
+    /**
+     * Checks if {@code type} is declared as handled by the provider, without creating the support.
+     *
+     * @param type to check
+     * @return true if provider handles type
+     */
+    public boolean handles(Class<?> type) {
+        return type != null && handled.get(type);
+    }
+
+    /**
+     * Checks if the provided support has been created.
+     *
+     * @return true if support has been created
+     */
+    public boolean isActivated() {
+        return support != null;
+    }
+
+    /**
+     * Gets the provider of this support.
+     *
+     * @return provider
+     */
+    public ValueSupportProvider getProvider() {
+        return provider;
+    }
+
+    @Override
+    public String toString() {
+        return "ProvidedSupport{" +
+                "provider=" + provider.getClass().getName() +
+                ", activated=" + isActivated() +
+                '}';
+    }
+
+    private ValueGenerator<?> getSupport() {
+        ValueGenerator<?> current = support;
+
+        if (current == null) {
+            synchronized (this) {
+                current = support;
+
+                if (current == null) {
+                    LOGGER.config("Activating provided support: {0}", provider.getClass().getName());
+                    current = provider.createSupport();
+                    support = current;
+                }
+            }
+        }
+
+        return current;
+    }
+
+    private boolean isHandled(Class<?> type) {
+        String name = type.getName();
+
+        for (String prefix : packagePrefixes) {
+            if (name.startsWith(prefix) && name.length() > prefix.length() && name.charAt(prefix.length()) == '.') {
+                return true;
+            }
+        }
+
+        for (Class<?> rootType : rootTypes) {
+            if (rootType.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
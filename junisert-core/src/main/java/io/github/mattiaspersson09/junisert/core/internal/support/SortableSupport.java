@@ -22,6 +22,7 @@ import io.github.mattiaspersson09.junisert.common.sort.Order;
 import io.github.mattiaspersson09.junisert.common.sort.Sortable;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Sortable adapter for a supported value generator, to be able to adjust sorting order for every support
@@ -51,6 +52,11 @@ public final class SortableSupport implements ValueGenerator<Object>, Sortable {
         return support.supports(type);
     }
 
+    @Override
+    public Optional<Value<?>> tryGenerate(Class<?> type) {
+        return support.tryGenerate(type).map(UserValue::new);
+    }
+
     @Override
     public Order order() {
         return Order.SECOND;
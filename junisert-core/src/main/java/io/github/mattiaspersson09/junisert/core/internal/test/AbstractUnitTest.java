@@ -19,7 +19,9 @@ import io.github.mattiaspersson09.junisert.api.assertion.Exclusion;
 import io.github.mattiaspersson09.junisert.api.value.UnsupportedConstructionError;
 import io.github.mattiaspersson09.junisert.api.value.Value;
 import io.github.mattiaspersson09.junisert.common.reflection.Constructor;
+import io.github.mattiaspersson09.junisert.common.reflection.Field;
 import io.github.mattiaspersson09.junisert.common.reflection.Unit;
+import io.github.mattiaspersson09.junisert.common.reflection.bytecode.AccessorAnalyzer;
 import io.github.mattiaspersson09.junisert.core.internal.InstanceCreator;
 import io.github.mattiaspersson09.junisert.core.internal.ValueService;
 import io.github.mattiaspersson09.junisert.core.internal.test.strategy.TestStrategy;
@@ -51,6 +53,14 @@ public abstract class AbstractUnitTest<T> implements UnitTest {
      * Active testing strategy for units.
      */
     protected TestStrategy testStrategy;
+    /**
+     * If instance fields inherited from super units should be tested, where applicable.
+     */
+    protected boolean inheritedFields;
+    /**
+     * If accessors proven by their bytecode should be verified without invoking them, where applicable.
+     */
+    protected boolean staticVerification;
 
     /**
      * Creates a new abstract unit test with needed resources.
@@ -88,6 +98,58 @@ public abstract class AbstractUnitTest<T> implements UnitTest {
         return (T) this;
     }
 
+    /**
+     * Sets if instance fields inherited from super units should be tested, where applicable.
+     *
+     * @param inheritedFields true to also test inherited instance fields
+     * @return this test
+     */
+    @SuppressWarnings("unchecked")
+    public final T withInheritedFields(boolean inheritedFields) {
+        this.inheritedFields = inheritedFields;
+        return (T) this;
+    }
+
+    /**
+     * Sets if accessors should be verified statically from their bytecode, where applicable. Accessors not proven
+     * by their bytecode are still verified by invoking them.
+     *
+     * @param staticVerification true to verify accessors proven by their bytecode without invoking them
+     * @return this test
+     * @see AccessorAnalyzer
+     */
+    @SuppressWarnings("unchecked")
+    public final T withStaticVerification(boolean staticVerification) {
+        this.staticVerification = staticVerification;
+        return (T) this;
+    }
+
+    /**
+     * Finds instance fields of given {@code unit} to test, including inherited instance fields if active.
+     *
+     * @param unit to find instance fields for
+     * @return instance fields to test
+     * @see #withInheritedFields(boolean)
+     */
+    protected List<Field> findInstanceFields(Unit unit) {
+        return inheritedFields
+                ? unit.findFieldsInHierarchyMatching(Field::isInstanceMember)
+                : unit.findFieldsMatching(Field::isInstanceMember);
+    }
+
+    /**
+     * Checks if given {@code unit} is immutable, including inherited instance fields if active.
+     *
+     * @param unit to check
+     * @return true if every instance field to test is immutable
+     * @see #withInheritedFields(boolean)
+     */
+    protected boolean isImmutable(Unit unit) {
+        return inheritedFields
+                ? unit.getHierarchy().stream().allMatch(Unit::isImmutable)
+                : unit.isImmutable();
+    }
+
     /**
      * Creates en empty instance of an immutable unit from a constructor having parameters,
      * meaning only negative/empty values will be used as arguments.<br>
@@ -21,11 +21,13 @@ import io.github.mattiaspersson09.junisert.common.logging.Logger;
 import io.github.mattiaspersson09.junisert.common.reflection.Field;
 import io.github.mattiaspersson09.junisert.common.reflection.Method;
 import io.github.mattiaspersson09.junisert.common.reflection.Unit;
+import io.github.mattiaspersson09.junisert.common.reflection.bytecode.AccessorAnalyzer;
 import io.github.mattiaspersson09.junisert.core.internal.InstanceCreator;
 import io.github.mattiaspersson09.junisert.core.internal.ValueService;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Tests that a {@link Unit} has a working getter for every non-synthetic instance field.
@@ -53,14 +55,17 @@ public final class HasGetters extends AbstractUnitTest<HasGetters> {
         for (Field field : fields) {
             LOGGER.info("Checking field: {0}", field);
 
-            List<Method> getters = unit.findMethodsMatching(testStrategy.isGetterForField(field)
-                    .and(exclusion::isNotExcluded));
+            List<Method> found = unit.findMethodsNamed(testStrategy.getterNamesForField(field))
+                    .stream()
+                    .filter(testStrategy.isGetterForField(field))
+                    .collect(Collectors.toList());
+            List<Method> getters = found.stream()
+                    .filter(exclusion::isNotExcluded)
+                    .collect(Collectors.toList());
 
             if (getters.isEmpty()) {
-                List<Method> excluded = unit.findMethodsMatching(testStrategy.isGetterForField(field));
-
-                if (!excluded.isEmpty()) {
-                    LOGGER.info("Skipped: no getter to test, all found is excluded: {0}", excluded);
+                if (!found.isEmpty()) {
+                    LOGGER.info("Skipped: no getter to test, all found is excluded: {0}", found);
                     continue;
                 }
 
@@ -69,6 +74,11 @@ public final class HasGetters extends AbstractUnitTest<HasGetters> {
             }
 
             for (Method method : getters) {
+                if (staticVerification && AccessorAnalyzer.isGetterOf(method, field)) {
+                    LOGGER.info("Verified from bytecode: {0} gets value from {1}", method, field);
+                    continue;
+                }
+
                 Value<?> argument = valueService.getValue(field.getType());
                 Object value = argument.get();
 
@@ -21,11 +21,13 @@ import io.github.mattiaspersson09.junisert.common.logging.Logger;
 import io.github.mattiaspersson09.junisert.common.reflection.Field;
 import io.github.mattiaspersson09.junisert.common.reflection.Method;
 import io.github.mattiaspersson09.junisert.common.reflection.Unit;
+import io.github.mattiaspersson09.junisert.common.reflection.bytecode.AccessorAnalyzer;
 import io.github.mattiaspersson09.junisert.core.internal.InstanceCreator;
 import io.github.mattiaspersson09.junisert.core.internal.ValueService;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Tests that a {@link Unit} has a working setter for every non-synthetic instance field.
@@ -63,14 +65,17 @@ public class HasSetters extends AbstractUnitTest<HasSetters> {
 
             LOGGER.info("Checking field: {0}", field);
 
-            List<Method> setters = unit.findMethodsMatching(testStrategy.isSetterForField(field)
-                    .and(exclusion::isNotExcluded));
+            List<Method> found = unit.findMethodsNamed(testStrategy.setterNamesForField(field))
+                    .stream()
+                    .filter(testStrategy.isSetterForField(field))
+                    .collect(Collectors.toList());
+            List<Method> setters = found.stream()
+                    .filter(exclusion::isNotExcluded)
+                    .collect(Collectors.toList());
 
             if (setters.isEmpty()) {
-                List<Method> excluded = unit.findMethodsMatching(testStrategy.isSetterForField(field));
-
-                if (!excluded.isEmpty()) {
-                    LOGGER.info("Skipped: no setter to test, all found is excluded: {0}", excluded);
+                if (!found.isEmpty()) {
+                    LOGGER.info("Skipped: no setter to test, all found is excluded: {0}", found);
                     continue;
                 }
 
@@ -79,6 +84,11 @@ public class HasSetters extends AbstractUnitTest<HasSetters> {
             }
 
             for (Method method : setters) {
+                if (staticVerification && AccessorAnalyzer.isSetterOf(method, field)) {
+                    LOGGER.info("Verified from bytecode: {0} sets value for {1}", method, field);
+                    continue;
+                }
+
                 Value<?> fieldValue = valueService.getValue(field.getType());
                 Object[] methodArguments = method.getParameterTypes()
                         .stream()
@@ -19,12 +19,15 @@ import io.github.mattiaspersson09.junisert.api.assertion.UnitAssertionError;
 import io.github.mattiaspersson09.junisert.common.logging.Logger;
 import io.github.mattiaspersson09.junisert.common.reflection.Field;
 import io.github.mattiaspersson09.junisert.common.reflection.Unit;
-import io.github.mattiaspersson09.junisert.common.reflection.util.Methods;
 import io.github.mattiaspersson09.junisert.core.internal.InstanceCreator;
 import io.github.mattiaspersson09.junisert.core.internal.ValueService;
 import io.github.mattiaspersson09.junisert.core.internal.test.util.Equals;
+import io.github.mattiaspersson09.junisert.value.common.EnumValueGenerator;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -33,6 +36,7 @@ import java.util.stream.Collectors;
 public class ImplementsEquals extends AbstractUnitTest<ImplementsEquals> {
     private static final Logger LOGGER = Logger.getLogger("Implements Equals");
     private static final int TIMES_CONSISTENCY_CHECK = 3;
+    private static final EnumValueGenerator ENUM_VALUES = new EnumValueGenerator();
 
     /**
      * Creates a new equals test with needed resources.
@@ -48,7 +52,7 @@ public class ImplementsEquals extends AbstractUnitTest<ImplementsEquals> {
     public void test(Unit unit) {
         LOGGER.info("Testing unit: {0}", unit.getName());
 
-        if (!unit.hasMethodMatching(Methods::isEqualsMethod)) {
+        if (!unit.declaresEquals()) {
             LOGGER.fail(unit.getName() + ".equals(Object) " + "was nowhere to be found",
                     "to have an equals method", "it was not found");
             throw new UnitAssertionError(unit.getName() + " was expected to implement the equals method");
@@ -60,14 +64,17 @@ public class ImplementsEquals extends AbstractUnitTest<ImplementsEquals> {
 
         LOGGER.info("Setting up fields for equality comparison");
 
-        List<Field> fields = unit.findFieldsMatching(Field::isInstanceMember);
+        List<Field> fields = findInstanceFields(unit);
+        boolean immutable = isImmutable(unit);
+        Map<Field, Object> values = new HashMap<>();
 
         for (Field field : fields) {
-            if (!unit.isImmutable()) {
+            if (!immutable) {
                 Object value = valueService.getValue(field.getType()).get();
                 field.setValue(instance, value);
                 field.setValue(instance2, value);
                 field.setValue(instance3, value);
+                values.put(field, value);
             }
         }
 
@@ -80,7 +87,7 @@ public class ImplementsEquals extends AbstractUnitTest<ImplementsEquals> {
                 .isNotSymmetricWith((Object) null)
                 .isNotSymmetricWith(new Object());
 
-        if (unit.isImmutable()) {
+        if (immutable) {
             List<Object> instances = createImmutableInstances(unit).stream()
                     .skip(1)
                     .collect(Collectors.toList());
@@ -95,14 +102,15 @@ public class ImplementsEquals extends AbstractUnitTest<ImplementsEquals> {
 
         Field previousField = null;
         for (Field field : fields) {
-            Object value = valueService.getValue(field.getType()).asEmpty();
+            Object value = getDifferentValue(field, values.get(field));
             field.setValue(instance2, value);
             equals.loggingOff()
                     .isNotSymmetricWith(instance2)
                     .loggingOn();
 
             if (previousField != null) {
-                previousField.setValue(instance2, valueService.getValue(previousField.getType()).get());
+                // Same value as in instance, leaving only this field to differ
+                previousField.setValue(instance2, values.get(previousField));
                 equals.loggingOff()
                         .isNotSymmetricWith(instance2)
                         .loggingOn();
@@ -111,4 +119,19 @@ public class ImplementsEquals extends AbstractUnitTest<ImplementsEquals> {
             previousField = field;
         }
     }
+
+    private Object getDifferentValue(Field field, Object value) {
+        Class<?> type = field.getType();
+
+        // Enum fields is varied with the next declared constant, only falling back on empty if there is none
+        if (ENUM_VALUES.supports(type) && value instanceof Enum) {
+            Object constant = ENUM_VALUES.generate(type, ((Enum<?>) value).ordinal() + 1).get();
+
+            if (!Objects.equals(constant, value)) {
+                return constant;
+            }
+        }
+
+        return valueService.getValue(type).asEmpty();
+    }
 }
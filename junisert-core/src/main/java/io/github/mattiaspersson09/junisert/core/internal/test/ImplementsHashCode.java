@@ -19,7 +19,6 @@ import io.github.mattiaspersson09.junisert.api.assertion.UnitAssertionError;
 import io.github.mattiaspersson09.junisert.common.logging.Logger;
 import io.github.mattiaspersson09.junisert.common.reflection.Field;
 import io.github.mattiaspersson09.junisert.common.reflection.Unit;
-import io.github.mattiaspersson09.junisert.common.reflection.util.Methods;
 import io.github.mattiaspersson09.junisert.core.internal.InstanceCreator;
 import io.github.mattiaspersson09.junisert.core.internal.ValueService;
 import io.github.mattiaspersson09.junisert.core.internal.test.util.HashCode;
@@ -47,7 +46,7 @@ public class ImplementsHashCode extends AbstractUnitTest<ImplementsHashCode> {
     public void test(Unit unit) {
         LOGGER.info("Testing unit: {0}", unit.getName());
 
-        if (!unit.hasMethodMatching(Methods::isHashCodeMethod)) {
+        if (!unit.declaresHashCode()) {
             LOGGER.fail(unit.getName() + ".hashCode() " + "was nowhere to be found",
                     "to have a hashCode method", "it was not found");
             throw new UnitAssertionError(unit.getName() + " was expected to implement the hashCode method");
@@ -58,10 +57,11 @@ public class ImplementsHashCode extends AbstractUnitTest<ImplementsHashCode> {
 
         LOGGER.info("Setting up fields for hash code comparison");
 
-        List<Field> fields = unit.findFieldsMatching(Field::isInstanceMember);
+        List<Field> fields = findInstanceFields(unit);
+        boolean immutable = isImmutable(unit);
 
         for (Field field : fields) {
-            if (!unit.isImmutable()) {
+            if (!immutable) {
                 Object value = valueService.getValue(field.getType()).get();
                 field.setValue(instance, value);
                 field.setValue(instance2, value);
@@ -72,7 +72,7 @@ public class ImplementsHashCode extends AbstractUnitTest<ImplementsHashCode> {
                 .isConsistent()
                 .isNotEmpty()
                 .isEqualTo(instance2)
-                .isNotEqualTo(() -> unit.isImmutable()
+                .isNotEqualTo(() -> immutable
                         ? createEmptyImmutableInstance(unit)
                         : resetFieldsInInstance(fields, instance2));
     }
@@ -19,7 +19,6 @@ import io.github.mattiaspersson09.junisert.api.assertion.UnitAssertionError;
 import io.github.mattiaspersson09.junisert.common.logging.Logger;
 import io.github.mattiaspersson09.junisert.common.reflection.Field;
 import io.github.mattiaspersson09.junisert.common.reflection.Unit;
-import io.github.mattiaspersson09.junisert.common.reflection.util.Methods;
 import io.github.mattiaspersson09.junisert.core.internal.InstanceCreator;
 import io.github.mattiaspersson09.junisert.core.internal.ValueService;
 import io.github.mattiaspersson09.junisert.core.internal.test.util.ToString;
@@ -46,7 +45,7 @@ public class ImplementsToString extends AbstractUnitTest<ImplementsToString> {
     public void test(Unit unit) {
         LOGGER.info("Testing unit: {0}", unit.getName());
 
-        if (!unit.hasMethodMatching(Methods::isToStringMethod)) {
+        if (!unit.declaresToString()) {
             LOGGER.fail(details(unit, "was nowhere to be found"), "to have a toString method", "it was not found");
             throw new UnitAssertionError(unit.getName() + " was expected to implement the toString method");
         }
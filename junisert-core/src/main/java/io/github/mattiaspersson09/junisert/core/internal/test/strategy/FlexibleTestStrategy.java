@@ -19,37 +19,40 @@ import io.github.mattiaspersson09.junisert.common.reflection.Field;
 import io.github.mattiaspersson09.junisert.common.reflection.Method;
 import io.github.mattiaspersson09.junisert.common.reflection.util.Fields;
 
+import java.util.Set;
 import java.util.function.Predicate;
 
 final class FlexibleTestStrategy implements TestStrategy {
     @Override
     public Predicate<Method> isGetterForField(Field field) {
-        return new JavaBeanTestStrategy()
-                .isGetterForField(field)
-                .or(this.isRecordStyleGetter(field));
+        return JavaBeanTestStrategy.isGetterNamed(getterNamesForField(field), field);
     }
 
     @Override
     public Predicate<Method> isSetterForField(Field field) {
-        return new JavaBeanTestStrategy()
-                .isSetterForField(field)
-                .or(this.isBuilderStyleSetter(field));
+        return JavaBeanTestStrategy.isSetterNamed(setterNamesForField(field), field);
     }
 
     @Override
-    public String name() {
-        return "Flexible";
+    public Set<String> getterNamesForField(Field field) {
+        Set<String> names = new JavaBeanTestStrategy().getterNamesForField(field);
+        names.add(field.getName());
+
+        return names;
     }
 
-    private Predicate<Method> isRecordStyleGetter(Field field) {
-        return method -> method.getName().equals(field.getName()) && method.isProducing(field.getType());
+    @Override
+    public Set<String> setterNamesForField(Field field) {
+        Set<String> names = new JavaBeanTestStrategy().setterNamesForField(field);
+        names.add(field.getName());
+        names.add("with" + Fields.toCapitalizedPropertyName(field));
+        names.add("with" + Fields.toBooleanCapitalizedPropertyName(field));
+
+        return names;
     }
 
-    private Predicate<Method> isBuilderStyleSetter(Field field) {
-        return method -> (method.getName().equals(field.getName())
-                || method.getName().equals("with" + Fields.toCapitalizedPropertyName(field))
-                || method.getName().equals("with" + Fields.toBooleanCapitalizedPropertyName(field)))
-                && method.hasParameterCount(1)
-                && method.hasParameterOf(field.getType());
+    @Override
+    public String name() {
+        return "Flexible";
     }
 }
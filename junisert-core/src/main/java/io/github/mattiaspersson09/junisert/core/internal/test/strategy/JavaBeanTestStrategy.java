@@ -19,35 +19,55 @@ import io.github.mattiaspersson09.junisert.common.reflection.Field;
 import io.github.mattiaspersson09.junisert.common.reflection.Method;
 import io.github.mattiaspersson09.junisert.common.reflection.util.Fields;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.function.Predicate;
 
 final class JavaBeanTestStrategy implements TestStrategy {
     @Override
     public Predicate<Method> isGetterForField(Field field) {
-        return method -> {
-            String propertyName = Fields.toCapitalizedPropertyName(field);
-
-            return (method.getName().equals("get" + propertyName)
-                    || method.getName().equals("is" + propertyName)
-                    || method.getName().equals("get" + Fields.toBooleanCapitalizedPropertyName(field)))
-                    && method.isProducing(field.getType());
-        };
+        return isGetterNamed(getterNamesForField(field), field);
     }
 
     @Override
     public Predicate<Method> isSetterForField(Field field) {
-        return method -> {
-            String propertyName = Fields.toCapitalizedPropertyName(field);
-
-            return (method.getName().equals("set" + propertyName)
-                    || method.getName().equals("set" + Fields.toBooleanCapitalizedPropertyName(field)))
-                    && method.hasParameterCount(1)
-                    && method.hasParameterOf(field.getType());
-        };
+        return isSetterNamed(setterNamesForField(field), field);
+    }
+
+    @Override
+    public Set<String> getterNamesForField(Field field) {
+        String propertyName = Fields.toCapitalizedPropertyName(field);
+
+        Set<String> names = new LinkedHashSet<>();
+        names.add("get" + propertyName);
+        names.add("is" + propertyName);
+        names.add("get" + Fields.toBooleanCapitalizedPropertyName(field));
+
+        return names;
+    }
+
+    @Override
+    public Set<String> setterNamesForField(Field field) {
+        Set<String> names = new LinkedHashSet<>();
+        names.add("set" + Fields.toCapitalizedPropertyName(field));
+        names.add("set" + Fields.toBooleanCapitalizedPropertyName(field));
+
+        return names;
     }
 
     @Override
     public String name() {
         return "Java Bean compliant";
     }
+
+    // Getter and setter names are decided by each strategy, method signatures are the same for every strategy
+    static Predicate<Method> isGetterNamed(Set<String> names, Field field) {
+        return method -> names.contains(method.getName()) && method.isProducing(field.getType());
+    }
+
+    static Predicate<Method> isSetterNamed(Set<String> names, Field field) {
+        return method -> names.contains(method.getName())
+                && method.hasParameterCount(1)
+                && method.hasParameterOf(field.getType());
+    }
 }
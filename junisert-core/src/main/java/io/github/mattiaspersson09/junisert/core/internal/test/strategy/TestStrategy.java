@@ -18,6 +18,7 @@ package io.github.mattiaspersson09.junisert.core.internal.test.strategy;
 import io.github.mattiaspersson09.junisert.common.reflection.Field;
 import io.github.mattiaspersson09.junisert.common.reflection.Method;
 
+import java.util.Set;
 import java.util.function.Predicate;
 
 /**
@@ -40,6 +41,24 @@ public interface TestStrategy {
      */
     Predicate<Method> isSetterForField(Field field);
 
+    /**
+     * Names a getter for given {@code field} can have, according to this test strategy. Every method accepted by
+     * {@link #isGetterForField(Field)} has one of these names, so candidates can be looked up by name first.
+     *
+     * @param field to name getters for
+     * @return possible getter names
+     */
+    Set<String> getterNamesForField(Field field);
+
+    /**
+     * Names a setter for given {@code field} can have, according to this test strategy. Every method accepted by
+     * {@link #isSetterForField(Field)} has one of these names, so candidates can be looked up by name first.
+     *
+     * @param field to name setters for
+     * @return possible setter names
+     */
+    Set<String> setterNamesForField(Field field);
+
     /**
      * Name of this test strategy.
      *
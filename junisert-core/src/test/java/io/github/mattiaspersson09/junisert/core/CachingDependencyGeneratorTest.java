@@ -15,9 +15,12 @@
  */
 package io.github.mattiaspersson09.junisert.core;
 
+import io.github.mattiaspersson09.junisert.api.value.Value;
 import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
 import io.github.mattiaspersson09.junisert.testunits.polymorphism.Impl;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,6 +29,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,4 +60,22 @@ public class CachingDependencyGeneratorTest {
 
         assertThat(generator.supports(Impl.class)).isFalse();
     }
+
+    @Test
+    void tryGenerate_whenDependencyGeneratorSupports_thenSavesValueInCache() {
+        Value<?> value = Impl::new;
+        doReturn(Optional.of(value)).when(dependencyGenerator).tryGenerate(Impl.class);
+        doReturn(value).when(valueCache).save(Impl.class, value);
+
+        assertThat(generator.tryGenerate(Impl.class)).containsSame(value);
+        verify(valueCache).save(Impl.class, value);
+    }
+
+    @Test
+    void tryGenerate_whenDependencyGeneratorDoesNotSupport_thenIsEmpty_andDoesNotCache() {
+        doReturn(Optional.empty()).when(dependencyGenerator).tryGenerate(any());
+
+        assertThat(generator.tryGenerate(Impl.class)).isEmpty();
+        verify(valueCache, never()).save(any(), any());
+    }
 }
@@ -21,6 +21,8 @@ import io.github.mattiaspersson09.junisert.core.assertion.AbstractAssertion.Temp
 import io.github.mattiaspersson09.junisert.core.internal.ValueService;
 import io.github.mattiaspersson09.junisert.core.internal.test.AbstractUnitTest;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -67,8 +69,7 @@ public class AbstractAssertionTest {
         ValueService originalValueService = Mockito.mock(ValueService.class);
         TemporaryValueService temporaryValueService = new TemporaryValueService(originalValueService, support);
 
-        when(support.supports(any())).thenReturn(true);
-        when(support.generate(any())).thenReturn((Value) () -> "value");
+        when(support.tryGenerate(any())).thenReturn((Optional) Optional.of((Value) () -> "value"));
 
         assertThat(temporaryValueService.getValue(String.class).get()).isEqualTo("value");
 
@@ -81,7 +82,7 @@ public class AbstractAssertionTest {
         ValueService originalValueService = Mockito.mock(ValueService.class);
         TemporaryValueService temporaryValueService = new TemporaryValueService(originalValueService, support);
 
-        when(support.supports(any())).thenReturn(false);
+        when(support.tryGenerate(any())).thenReturn(Optional.empty());
 
         temporaryValueService.getValue(String.class);
 
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.core.internal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AllocatingInstanceCreatorTest {
+    @Mock
+    InstanceCreator fallback;
+    private InstanceCreator instanceCreator;
+
+    @BeforeEach
+    void setUp() {
+        instanceCreator = InstanceCreator.allocatingOrElse(fallback);
+    }
+
+    @Test
+    void createInstance_whenUnitIsMutable_thenAllocatesWithoutRunningConstructor() {
+        Object first = instanceCreator.createInstance(MutableUnit.class);
+        Object second = instanceCreator.createInstance(MutableUnit.class);
+
+        assertThat(first).isInstanceOf(MutableUnit.class).isNotSameAs(second);
+        assertThat(((MutableUnit) first).value).isNull();
+        verify(fallback, never()).createInstance(any(Class.class));
+    }
+
+    @Test
+    void createInstance_whenUnitIsImmutable_thenCreatesFromFallback() {
+        ImmutableUnit unit = new ImmutableUnit("value");
+        when(fallback.createInstance(ImmutableUnit.class)).thenReturn(unit);
+
+        assertThat(instanceCreator.createInstance(ImmutableUnit.class)).isSameAs(unit);
+        assertThat(AllocatingInstanceCreator.isAllocated(ImmutableUnit.class)).isFalse();
+    }
+
+    @Test
+    void createInstance_whenUnitIsAbstract_thenCreatesFromFallback() {
+        when(fallback.createInstance(AbstractUnit.class)).thenReturn(null);
+
+        instanceCreator.createInstance(AbstractUnit.class);
+
+        verify(fallback).createInstance(AbstractUnit.class);
+        assertThat(AllocatingInstanceCreator.isAllocated(AbstractUnit.class)).isFalse();
+    }
+
+    private static class MutableUnit {
+        private String value = "constructed";
+
+        MutableUnit() {
+            throw new IllegalStateException("constructor should not run");
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+
+    private static class ImmutableUnit {
+        private final String value;
+
+        ImmutableUnit(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    private abstract static class AbstractUnit {
+    }
+}
@@ -20,6 +20,8 @@ import io.github.mattiaspersson09.junisert.api.value.Value;
 import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
 import io.github.mattiaspersson09.junisert.common.reflection.Unit;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,7 +32,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ConstructorInstanceCreatorTest {
@@ -38,6 +42,8 @@ public class ConstructorInstanceCreatorTest {
     Unit unit;
     @Mock
     ValueGenerator<Object> instanceGenerator;
+    @Mock
+    ValueGenerator<Object> dependencySupport;
     private InstanceCreator instanceCreator;
 
     @BeforeEach
@@ -48,8 +54,7 @@ public class ConstructorInstanceCreatorTest {
     @Test
     void givenInstanceGenerator_whenGeneratorSupportsCreation_thenCreatesInstance() {
         doReturn(UnitClass.class).when(unit).getType();
-        when(instanceGenerator.supports(any())).thenReturn(true);
-        doReturn((Value<?>) UnitClass::new).when(instanceGenerator).generate(UnitClass.class);
+        doReturn(Optional.of((Value<?>) UnitClass::new)).when(instanceGenerator).tryGenerate(UnitClass.class);
 
         assertThat(instanceCreator.createInstance(unit)).isNotNull();
         assertThat(instanceCreator.createInstance(unit)).isInstanceOf(UnitClass.class);
@@ -58,12 +63,35 @@ public class ConstructorInstanceCreatorTest {
     @Test
     void givenInstanceGenerator_whenGeneratorDoesNotSupportCreation_thenThrowsUnsupportedTypeError() {
         doReturn(UnitClass.class).when(unit).getType();
-        when(instanceGenerator.supports(any())).thenReturn(false);
+        doReturn(Optional.empty()).when(instanceGenerator).tryGenerate(any());
 
         assertThatThrownBy(() -> instanceCreator.createInstance(unit))
                 .isInstanceOf(UnsupportedTypeError.class);
     }
 
+    @Test
+    void givenDependencySupport_whenCreatingSeveralInstances_thenGeneratesDependenciesFromSupport() {
+        doReturn(Optional.of((Value<?>) () -> "dependency")).when(dependencySupport).tryGenerate(String.class);
+        InstanceCreator instanceCreator = new ConstructorInstanceCreator(dependencySupport, 0);
+
+        DependentUnitClass first = (DependentUnitClass) instanceCreator.createInstance(DependentUnitClass.class);
+        DependentUnitClass second = (DependentUnitClass) instanceCreator.createInstance(DependentUnitClass.class);
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.dependency).isEqualTo("dependency");
+        assertThat(second.dependency).isEqualTo("dependency");
+        verify(dependencySupport, never()).supports(any());
+        verify(dependencySupport, times(2)).tryGenerate(String.class);
+    }
+
     private static class UnitClass {
     }
+
+    private static class DependentUnitClass {
+        private final String dependency;
+
+        DependentUnitClass(String dependency) {
+            this.dependency = dependency;
+        }
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.core.internal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PrototypeInstanceCreatorTest {
+    @Mock
+    InstanceCreator delegate;
+    private InstanceCreator instanceCreator;
+
+    @BeforeEach
+    void setUp() {
+        instanceCreator = InstanceCreator.copyingPrototypesOf(delegate);
+    }
+
+    @Test
+    void createInstance_whenUnitCanBeCopied_thenCreatesPrototypeOnceAndCopiesEveryField() {
+        Dependency dependency = new Dependency();
+        when(delegate.createInstance(SubUnit.class)).thenReturn(new SubUnit(dependency, "value", 1));
+
+        SubUnit first = (SubUnit) instanceCreator.createInstance(SubUnit.class);
+        SubUnit second = (SubUnit) instanceCreator.createInstance(SubUnit.class);
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(((SuperUnit) first).dependency).isSameAs(dependency);
+        assertThat(first.value).isEqualTo("value");
+        assertThat(first.number).isEqualTo(1);
+        assertThat(((SuperUnit) second).dependency).isSameAs(dependency);
+        verify(delegate, times(1)).createInstance(SubUnit.class);
+    }
+
+    @Test
+    void createInstance_whenCopyIsChanged_thenDoesNotChangeNextCopy() {
+        when(delegate.createInstance(SubUnit.class)).thenReturn(new SubUnit(new Dependency(), "value", 1));
+
+        SubUnit first = (SubUnit) instanceCreator.createInstance(SubUnit.class);
+        first.value = "changed";
+        first.number = 2;
+        SubUnit second = (SubUnit) instanceCreator.createInstance(SubUnit.class);
+
+        assertThat(second.value).isEqualTo("value");
+        assertThat(second.number).isEqualTo(1);
+    }
+
+    @Test
+    void createInstance_whenUnitIsAbstract_thenCreatesFromDelegateEveryTime() {
+        when(delegate.createInstance(AbstractUnit.class)).thenReturn(null);
+
+        instanceCreator.createInstance(AbstractUnit.class);
+        instanceCreator.createInstance(AbstractUnit.class);
+
+        verify(delegate, times(2)).createInstance(AbstractUnit.class);
+    }
+
+    private static class Dependency {
+    }
+
+    private static class SuperUnit {
+        private final Dependency dependency;
+
+        SuperUnit(Dependency dependency) {
+            this.dependency = dependency;
+        }
+    }
+
+    private static class SubUnit extends SuperUnit {
+        private String value;
+        private int number;
+
+        SubUnit(Dependency dependency, String value, int number) {
+            super(dependency);
+            this.value = value;
+            this.number = number;
+        }
+    }
+
+    private abstract static class AbstractUnit {
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.core.internal.support;
+
+import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
+import io.github.mattiaspersson09.junisert.api.value.Value;
+import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
+import io.github.mattiaspersson09.junisert.api.value.ValueSupportProvider;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ProvidedSupportTest {
+    @Test
+    void tryGenerate_whenTypeIsNotHandled_thenDoesNotActivateSupport() {
+        CountingProvider provider = new CountingProvider(Collections.singleton("java.time"), Collections.emptySet());
+        ProvidedSupport support = new ProvidedSupport(provider);
+
+        assertThat(support.tryGenerate(String.class)).isEmpty();
+        assertThat(support.supports(String.class)).isFalse();
+        assertThatThrownBy(() -> support.generate(String.class)).isInstanceOf(UnsupportedTypeError.class);
+        assertThat(support.isActivated()).isFalse();
+        assertThat(provider.created).isZero();
+    }
+
+    @Test
+    void tryGenerate_whenTypeIsInHandledPackage_thenActivatesSupportOnce() {
+        CountingProvider provider = new CountingProvider(Collections.singleton("java.time"), Collections.emptySet());
+        ProvidedSupport support = new ProvidedSupport(provider);
+
+        assertThat(support.tryGenerate(java.time.LocalDate.class)).get().isInstanceOf(UserValue.class);
+        assertThat(support.tryGenerate(java.time.chrono.HijrahDate.class)).isPresent();
+        assertThat(support.generate(java.time.Instant.class).get()).isEqualTo("value");
+        assertThat(support.isActivated()).isTrue();
+        assertThat(provider.created).isOne();
+    }
+
+    @Test
+    void handles_whenPackageOnlySharesPrefix_thenIsNotHandled() {
+        ProvidedSupport support = new ProvidedSupport(
+                new CountingProvider(Collections.singleton("java.uti"), Collections.emptySet()));
+
+        assertThat(support.handles(java.util.List.class)).isFalse();
+        assertThat(support.handles(null)).isFalse();
+    }
+
+    @Test
+    void handles_whenTypeIsSubtypeOfRootType_thenIsHandled() {
+        ProvidedSupport support = new ProvidedSupport(
+                new CountingProvider(Collections.emptySet(), Collections.singleton(CharSequence.class)));
+
+        assertThat(support.handles(String.class)).isTrue();
+        assertThat(support.handles(StringBuilder.class)).isTrue();
+        assertThat(support.handles(Integer.class)).isFalse();
+        assertThat(support.isActivated()).isFalse();
+    }
+
+    private static class CountingProvider implements ValueSupportProvider {
+        private final Set<String> packagePrefixes;
+        private final Set<Class<?>> rootTypes;
+        private int created;
+
+        CountingProvider(Set<String> packagePrefixes, Set<Class<?>> rootTypes) {
+            this.packagePrefixes = packagePrefixes;
+            this.rootTypes = rootTypes;
+        }
+
+        @Override
+        public Set<String> packagePrefixes() {
+            return packagePrefixes;
+        }
+
+        @Override
+        public Set<Class<?>> rootTypes() {
+            return rootTypes;
+        }
+
+        @Override
+        public ValueGenerator<?> createSupport() {
+            created++;
+            return new AnySupport();
+        }
+    }
+
+    private static class AnySupport implements ValueGenerator<Object> {
+        @Override
+        public Value<?> generate(Class<?> fromType) throws UnsupportedTypeError {
+            return () -> "value";
+        }
+
+        @Override
+        public boolean supports(Class<?> type) {
+            return true;
+        }
+    }
+}
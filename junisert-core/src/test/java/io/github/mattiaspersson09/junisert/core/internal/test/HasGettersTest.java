@@ -33,6 +33,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -57,7 +58,8 @@ public class HasGettersTest {
     void givenField_whenNotFindingAnyInstanceGetter_thenThrowsUnitAssertionError() {
         when(unit.getName()).thenReturn("unit");
         when(unit.findFieldsMatching(any())).thenReturn(Collections.singletonList(field));
-        when(unit.findMethodsMatching(any())).thenReturn(Collections.emptyList());
+        when(field.getName()).thenReturn("field");
+        when(unit.findMethodsNamed(anyCollection())).thenReturn(Collections.emptyList());
 
         Exclusion excludingSynthetic = Exclusion.exclude()
                 .methodMatching(Method::isSynthetic)
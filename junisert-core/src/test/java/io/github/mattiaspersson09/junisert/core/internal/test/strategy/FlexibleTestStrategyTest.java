@@ -111,4 +111,20 @@ public class FlexibleTestStrategyTest {
 
         assertThat(convention.isGetterForField(field)).accepts(method);
     }
+
+    @Test
+    void getterNames_whenField_thenIncludesRecordStyleName() {
+        when(field.getName()).thenReturn("field");
+
+        assertThat(convention.getterNamesForField(field))
+                .containsExactlyInAnyOrder("getField", "isField", "field");
+    }
+
+    @Test
+    void setterNames_whenField_thenIncludesBuilderStyleNames() {
+        when(field.getName()).thenReturn("field");
+
+        assertThat(convention.setterNamesForField(field))
+                .containsExactlyInAnyOrder("setField", "field", "withField");
+    }
 }
@@ -205,4 +205,20 @@ public class JavaBeanTestStrategyTest {
         assertThat(convention.isSetterForField(field)).accepts(method);
         assertThat(convention.isSetterForField(field)).rejects(overloadingNonBooleanMethod);
     }
+
+    @Test
+    void getterNames_whenBooleanFieldWithIsPrefix_thenIncludesNameWithoutPrefix() {
+        when(field.getName()).thenReturn("isActive");
+        when(field.isBoolean()).thenReturn(true);
+
+        assertThat(convention.getterNamesForField(field))
+                .containsExactlyInAnyOrder("getIsActive", "isIsActive", "getActive");
+    }
+
+    @Test
+    void setterNames_whenField_thenOnlyIncludesSetPrefixedName() {
+        when(field.getName()).thenReturn("field");
+
+        assertThat(convention.setterNamesForField(field)).containsExactly("setField");
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.processor;
+
+import io.github.mattiaspersson09.junisert.common.reflection.Signature;
+import io.github.mattiaspersson09.junisert.common.reflection.metadata.UnitMetadata;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetadataProcessorIntegrationTest {
+    private static final String MODEL = "package com.example.model;\n"
+            + "public class Model {\n"
+            + "    private String name;\n"
+            + "    int count;\n"
+            + "    public Model() {}\n"
+            + "    public Model(String name, int count) { this.name = name; this.count = count; }\n"
+            + "    public String getName() { return name; }\n"
+            + "    public void setName(String name) { this.name = name; }\n"
+            + "    private void hidden() {}\n"
+            + "    @Override public int hashCode() { return count; }\n"
+            + "}\n";
+    private static final String REQUEST = "package com.example.test;\n"
+            + "@io.github.mattiaspersson09.junisert.common.reflection.metadata.GenerateMetadata(\n"
+            + "        packages = \"com.example.model\")\n"
+            + "public class ModelTest {}\n";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenRequestedPackage_whenCompiling_thenGeneratesMetadataWithAccessors() throws Throwable {
+        Path output = compile(Collections.emptyList());
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> model = loader.loadClass("com.example.model.Model");
+            UnitMetadata metadata = UnitMetadata.of(model).orElseThrow(AssertionError::new);
+
+            assertThat(metadata.getUnitType()).isEqualTo(model);
+            assertThat(metadata.getFieldNames()).containsExactly("name", "count");
+            assertThat(metadata.getCanonicalConstructor()).contains(Signature.of(String.class, int.class));
+            assertThat(metadata.declaresEquals()).isFalse();
+            assertThat(metadata.declaresHashCode()).isTrue();
+            assertThat(metadata.findFieldAccessor("name")).isEmpty();
+            assertThat(metadata.findMethodAccessor("hidden", Signature.EMPTY)).isEmpty();
+
+            Object instance = metadata.findConstructorAccessor(Signature.EMPTY)
+                    .orElseThrow(AssertionError::new)
+                    .newInstance(new Object[0]);
+
+            metadata.findMethodAccessor("setName", Signature.of(String.class))
+                    .orElseThrow(AssertionError::new)
+                    .invoke(instance, new Object[]{"name"});
+            metadata.findFieldAccessor("count")
+                    .orElseThrow(AssertionError::new)
+                    .set(instance, 5);
+
+            assertThat(metadata.findMethodAccessor("getName", Signature.EMPTY)
+                    .orElseThrow(AssertionError::new)
+                    .invoke(instance, new Object[0])).isEqualTo("name");
+            assertThat(metadata.findFieldAccessor("count").orElseThrow(AssertionError::new).get(instance))
+                    .isEqualTo(5);
+        }
+    }
+
+    @Test
+    void givenConfiguredPackage_whenCompilingWithoutRequest_thenGeneratesMetadata() throws Exception {
+        Path output = compile(Arrays.asList("-A" + MetadataProcessor.PACKAGES_OPTION + "=com.example.model"));
+
+        assertThat(output.resolve("com/example/model/Model_JunisertMetadata.class")).exists();
+    }
+
+    private Path compile(List<String> options) throws IOException {
+        Path sources = Files.createDirectories(directory.resolve("src"));
+        Path output = Files.createDirectories(directory.resolve("classes"));
+        Path model = write(sources.resolve("com/example/model/Model.java"), MODEL);
+        Path request = write(sources.resolve("com/example/test/ModelTest.java"), REQUEST);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> arguments = new ArrayList<>(options);
+        arguments.addAll(Arrays.asList(
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", MetadataProcessor.class.getName(),
+                "-d", output.toString(),
+                model.toString()));
+
+        if (options.isEmpty()) {
+            arguments.add(request.toString());
+        }
+
+        assertThat(compiler.run(null, null, null, arguments.toArray(new String[0]))).isZero();
+
+        return output;
+    }
+
+    private static Path write(Path file, String source) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor generating unit metadata at compile time, for every unit requested by
+ * {@code GenerateMetadata} and for every unit in packages configured with the
+ * {@value #PACKAGES_OPTION} processor option, separated by comma.<br>
+ * <br>
+ * Generated metadata is placed in the same package as its unit and is picked up at runtime by reflected unit
+ * members, which then invokes non-private members directly instead of using reflection.
+ * <p>
+ * Example configuration with Gradle:
+ * <pre>
+ * testAnnotationProcessor("io.github.mattiaspersson09:junisert-processor:&lt;version&gt;")
+ * compileTestJava {
+ *     options.compilerArgs.add("-Ajunisert.packages=com.example.model")
+ * }
+ * </pre>
+ */
+public final class MetadataProcessor extends AbstractProcessor {
+    /**
+     * Processor option configuring packages to generate metadata for every unit in, separated by comma.
+     */
+    public static final String PACKAGES_OPTION = "junisert.packages";
+
+    static final String GENERATE_METADATA = "io.github.mattiaspersson09.junisert.common.reflection.metadata"
+            + ".GenerateMetadata";
+    static final String METADATA_SUFFIX = "_JunisertMetadata";
+
+    private final Set<String> generated = new HashSet<>();
+    private MetadataWriter writer;
+    private boolean configuredPackagesProcessed;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.writer = new MetadataWriter(processingEnv);
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // Configured packages needs processing even if no annotation is present
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Collections.singleton(PACKAGES_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            return false;
+        }
+
+        Set<TypeElement> units = new LinkedHashSet<>();
+
+        if (!configuredPackagesProcessed) {
+            configuredPackagesProcessed = true;
+            String packages = processingEnv.getOptions().get(PACKAGES_OPTION);
+
+            if (packages != null) {
+                for (String packageName : packages.split(",")) {
+                    collectPackage(packageName.trim(), units);
+                }
+            }
+        }
+
+        TypeElement generateMetadata = processingEnv.getElementUtils().getTypeElement(GENERATE_METADATA);
+
+        if (generateMetadata != null) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(generateMetadata)) {
+                collectRequested(element, units);
+            }
+        }
+
+        for (TypeElement unit : units) {
+            String name = processingEnv.getElementUtils().getBinaryName(unit).toString();
+
+            if (!generated.add(name)) {
+                continue;
+            }
+
+            try {
+                writer.write(unit);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Unable to generate metadata: " + e.getMessage(), unit);
+            }
+        }
+
+        return false;
+    }
+
+    private void collectRequested(Element element, Set<TypeElement> units) {
+        boolean requestedAny = false;
+
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (!GENERATE_METADATA.equals(mirror.getAnnotationType().toString())) {
+                continue;
+            }
+
+            Map<? extends ExecutableElement, ? extends AnnotationValue> values = processingEnv.getElementUtils()
+                    .getElementValuesWithDefaults(mirror);
+
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+                String attribute = entry.getKey().getSimpleName().toString();
+
+                for (AnnotationValue value : asList(entry.getValue())) {
+                    requestedAny = true;
+
+                    if ("value".equals(attribute)) {
+                        Element requested = processingEnv.getTypeUtils().asElement((TypeMirror) value.getValue());
+                        collectType(requested, units, true);
+                    } else if ("packages".equals(attribute)) {
+                        collectPackage(value.getValue().toString(), units);
+                    }
+                }
+            }
+        }
+
+        if (!requestedAny) {
+            if (element instanceof PackageElement) {
+                collectPackage(((PackageElement) element).getQualifiedName().toString(), units);
+            } else {
+                collectType(element, units, true);
+            }
+        }
+    }
+
+    private void collectPackage(String packageName, Set<TypeElement> units) {
+        if (packageName.isEmpty()) {
+            return;
+        }
+
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageElement(packageName);
+
+        if (packageElement == null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Package to generate metadata for was not found: " + packageName);
+            return;
+        }
+
+        for (Element element : packageElement.getEnclosedElements()) {
+            collectType(element, units, false);
+        }
+    }
+
+    private void collectType(Element element, Set<TypeElement> units, boolean requested) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+
+        TypeElement type = (TypeElement) element;
+
+        if (isSupported(type)) {
+            units.add(type);
+        } else if (requested) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Metadata can only be generated for non-private top level or static nested classes", type);
+        }
+
+        for (Element enclosed : type.getEnclosedElements()) {
+            collectType(enclosed, units, false);
+        }
+    }
+
+    private boolean isSupported(TypeElement type) {
+        ElementKind kind = type.getKind();
+
+        // Records are only known from Java 16 and compared by name
+        if (kind != ElementKind.CLASS && kind != ElementKind.ENUM && !"RECORD".equals(kind.name())) {
+            return false;
+        }
+
+        if (type.getSimpleName().toString().endsWith(METADATA_SUFFIX)) {
+            return false;
+        }
+
+        Element current = type;
+
+        while (current instanceof TypeElement) {
+            TypeElement currentType = (TypeElement) current;
+
+            if (currentType.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+
+            if (currentType.getNestingKind() != NestingKind.TOP_LEVEL
+                    && (currentType.getNestingKind() != NestingKind.MEMBER || !isStatic(currentType))) {
+                return false;
+            }
+
+            current = currentType.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    private static boolean isStatic(TypeElement type) {
+        // Nested enums, records and interfaces are implicitly static
+        return type.getModifiers().contains(Modifier.STATIC)
+                || type.getKind() != ElementKind.CLASS;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<? extends AnnotationValue> asList(AnnotationValue value) {
+        return value.getValue() instanceof List
+                ? (List<? extends AnnotationValue>) value.getValue()
+                : Collections.singletonList(value);
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.JavaFileObject;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the source of generated unit metadata, extending {@code AbstractUnitMetadata} and registering accessors
+ * for every non-private member of the unit that can be invoked directly from the unit's package.
+ */
+final class MetadataWriter {
+    private static final String METADATA_PACKAGE = "io.github.mattiaspersson09.junisert.common.reflection.metadata";
+    private static final String ACCESS_PACKAGE = "io.github.mattiaspersson09.junisert.common.reflection.access";
+    private static final String INDENT = "        ";
+
+    private final ProcessingEnvironment processingEnv;
+
+    MetadataWriter(ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    /**
+     * Writes generated metadata of given {@code unit} as a new source file in the unit's package.
+     *
+     * @param unit to write metadata of
+     * @throws IOException if unable to write source file
+     */
+    void write(TypeElement unit) throws IOException {
+        PackageElement unitPackage = processingEnv.getElementUtils().getPackageOf(unit);
+        String packageName = unitPackage.isUnnamed() ? "" : unitPackage.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(unit).toString();
+        String metadataName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+                .replace('$', '_') + MetadataProcessor.METADATA_SUFFIX;
+
+        JavaFileObject file = processingEnv.getFiler()
+                .createSourceFile(packageName.isEmpty() ? metadataName : packageName + "." + metadataName, unit);
+
+        try (Writer writer = file.openWriter()) {
+            writer.write(source(unit, packageName, metadataName));
+        }
+    }
+
+    private String source(TypeElement unit, String packageName, String metadataName) {
+        String unitName = erasure(unit.asType());
+        List<VariableElement> fields = ElementFilter.fieldsIn(unit.getEnclosedElements());
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(unit.getEnclosedElements());
+        List<ExecutableElement> methods = ElementFilter.methodsIn(unit.getEnclosedElements());
+        PackageElement unitPackage = processingEnv.getElementUtils().getPackageOf(unit);
+        List<VariableElement> instanceFields = fields.stream()
+                .filter(field -> !field.getModifiers().contains(Modifier.STATIC))
+                .collect(Collectors.toList());
+
+        StringBuilder source = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("// Generated by junisert-processor from ").append(unitName).append(", do not edit\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\", \"deprecation\"})\n")
+                .append("public final class ").append(metadataName)
+                .append(" extends ").append(METADATA_PACKAGE).append(".AbstractUnitMetadata {\n")
+                .append("    public ").append(metadataName).append("() {\n")
+                .append(INDENT).append("super(").append(unitName).append(".class);\n");
+
+        source.append(INDENT).append("fields(")
+                .append(instanceFields.stream()
+                        .map(field -> "\"" + field.getSimpleName() + "\"")
+                        .collect(Collectors.joining(", ")))
+                .append(");\n");
+
+        List<String> componentTypes = instanceFields.stream()
+                .map(field -> erasure(field.asType()))
+                .collect(Collectors.toList());
+
+        boolean accessibleComponents = instanceFields.stream()
+                .allMatch(field -> isAccessibleType(field.asType(), unitPackage));
+
+        if (!componentTypes.isEmpty() && accessibleComponents && constructors.stream()
+                .anyMatch(constructor -> parameterTypes(constructor).equals(componentTypes))) {
+            source.append(INDENT).append("canonicalConstructor(").append(classLiterals(componentTypes)).append(");\n");
+        }
+
+        source.append(INDENT).append("declares(")
+                .append(declares(methods, "equals", "java.lang.Object")).append(", ")
+                .append(declares(methods, "hashCode")).append(", ")
+                .append(declares(methods, "toString")).append(");\n");
+
+        for (VariableElement field : fields) {
+            if (isDirectlyAccessible(field, unitPackage) && !field.getModifiers().contains(Modifier.FINAL)) {
+                appendFieldAccessor(source, unitName, field);
+            }
+        }
+
+        for (ExecutableElement method : methods) {
+            if (isDirectlyAccessible(method, unitPackage)) {
+                appendMethodAccessor(source, unitName, method);
+            }
+        }
+
+        boolean instantiable = unit.getKind() == ElementKind.CLASS || "RECORD".equals(unit.getKind().name());
+
+        if (instantiable && !unit.getModifiers().contains(Modifier.ABSTRACT)) {
+            for (ExecutableElement constructor : constructors) {
+                if (isDirectlyAccessible(constructor, unitPackage)) {
+                    appendConstructorAccessor(source, unitName, constructor);
+                }
+            }
+        }
+
+        return source.append("    }\n").append("}\n").toString();
+    }
+
+    private void appendFieldAccessor(StringBuilder source, String unitName, VariableElement field) {
+        String target = field.getModifiers().contains(Modifier.STATIC)
+                ? unitName + "." + field.getSimpleName()
+                : "((" + unitName + ") instance)." + field.getSimpleName();
+
+        source.append(INDENT).append("fieldAccessor(\"").append(field.getSimpleName()).append("\", new ")
+                .append(ACCESS_PACKAGE).append(".FieldAccessor() {\n")
+                .append(INDENT).append("    @Override\n")
+                .append(INDENT).append("    public Object get(Object instance) {\n")
+                .append(INDENT).append("        return ").append(target).append(";\n")
+                .append(INDENT).append("    }\n\n")
+                .append(INDENT).append("    @Override\n")
+                .append(INDENT).append("    public void set(Object instance, Object value) {\n")
+                .append(INDENT).append("        ").append(target)
+                .append(" = (").append(erasure(field.asType())).append(") value;\n")
+                .append(INDENT).append("    }\n")
+                .append(INDENT).append("});\n");
+    }
+
+    private void appendMethodAccessor(StringBuilder source, String unitName, ExecutableElement method) {
+        String target = method.getModifiers().contains(Modifier.STATIC)
+                ? unitName + "." + method.getSimpleName()
+                : "((" + unitName + ") instance)." + method.getSimpleName();
+        String invocation = target + "(" + arguments(method) + ")";
+
+        source.append(INDENT).append("methodAccessor(\"").append(method.getSimpleName()).append("\", ")
+                .append("new Class<?>[]{").append(classLiterals(parameterTypes(method))).append("}, ")
+                .append("(instance, args) -> ");
+
+        if (method.getReturnType().getKind() == TypeKind.VOID) {
+            source.append("{\n")
+                    .append(INDENT).append("    ").append(invocation).append(";\n")
+                    .append(INDENT).append("    return null;\n")
+                    .append(INDENT).append("});\n");
+        } else {
+            source.append(invocation).append(");\n");
+        }
+    }
+
+    private void appendConstructorAccessor(StringBuilder source, String unitName, ExecutableElement constructor) {
+        source.append(INDENT).append("constructorAccessor(")
+                .append("new Class<?>[]{").append(classLiterals(parameterTypes(constructor))).append("}, ")
+                .append("args -> new ").append(unitName).append("(").append(arguments(constructor)).append("));\n");
+    }
+
+    private String arguments(ExecutableElement executable) {
+        List<String> parameterTypes = parameterTypes(executable);
+        StringBuilder arguments = new StringBuilder();
+
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            if (i > 0) {
+                arguments.append(", ");
+            }
+
+            arguments.append("(").append(parameterTypes.get(i)).append(") args[").append(i).append("]");
+        }
+
+        return arguments.toString();
+    }
+
+    private List<String> parameterTypes(ExecutableElement executable) {
+        return executable.getParameters()
+                .stream()
+                .map(parameter -> erasure(parameter.asType()))
+                .collect(Collectors.toList());
+    }
+
+    private static String classLiterals(List<String> types) {
+        return types.stream()
+                .map(type -> type + ".class")
+                .collect(Collectors.joining(", "));
+    }
+
+    private static boolean declares(List<ExecutableElement> methods, String name, String... parameterTypes) {
+        return methods.stream()
+                .anyMatch(method -> method.getSimpleName().contentEquals(name)
+                        && !method.getModifiers().contains(Modifier.STATIC)
+                        && method.getParameters().size() == parameterTypes.length
+                        && (parameterTypes.length == 0
+                        || method.getParameters().get(0).asType().toString().equals(parameterTypes[0])));
+    }
+
+    private boolean isDirectlyAccessible(Element member, PackageElement unitPackage) {
+        if (member.getModifiers().contains(Modifier.PRIVATE)) {
+            return false;
+        }
+
+        if (member instanceof VariableElement) {
+            return isAccessibleType(member.asType(), unitPackage);
+        }
+
+        ExecutableElement executable = (ExecutableElement) member;
+
+        return isAccessibleType(executable.getReturnType(), unitPackage)
+                && executable.getParameters()
+                .stream()
+                .allMatch(parameter -> isAccessibleType(parameter.asType(), unitPackage));
+    }
+
+    private boolean isAccessibleType(TypeMirror type, PackageElement unitPackage) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+
+        while (erased.getKind() == TypeKind.ARRAY) {
+            erased = ((ArrayType) erased).getComponentType();
+        }
+
+        if (erased.getKind() != TypeKind.DECLARED) {
+            return erased.getKind().isPrimitive() || erased.getKind() == TypeKind.VOID;
+        }
+
+        Element element = ((DeclaredType) erased).asElement();
+
+        // Generated metadata is in the unit's package, types from other packages must be public all the way
+        while (element instanceof TypeElement) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+
+            if (!element.getModifiers().contains(Modifier.PUBLIC)
+                    && !processingEnv.getElementUtils().getPackageOf(element).equals(unitPackage)) {
+                return false;
+            }
+
+            element = element.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+}
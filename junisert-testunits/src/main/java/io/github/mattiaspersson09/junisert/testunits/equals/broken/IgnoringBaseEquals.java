@@ -0,0 +1,22 @@
+package io.github.mattiaspersson09.junisert.testunits.equals.broken;
+
+import io.github.mattiaspersson09.junisert.testunits.equals.Base;
+
+import java.util.Objects;
+
+public class IgnoringBaseEquals extends Base {
+    private Object field;
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (object == null || getClass() != object.getClass()) return false;
+        IgnoringBaseEquals that = (IgnoringBaseEquals) object;
+        return Objects.equals(field, that.field);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(field);
+    }
+}
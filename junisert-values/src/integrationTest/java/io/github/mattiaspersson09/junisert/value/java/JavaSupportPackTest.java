@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.value.java;
+
+import io.github.mattiaspersson09.junisert.api.internal.support.AggregatedValueGenerator;
+import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
+import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
+
+import java.security.Principal;
+import java.security.SecurityPermission;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JavaSupportPackTest {
+    @Test
+    void givenTypeOutsidePackPackages_whenRequested_thenPackIsNotLoaded() {
+        AtomicInteger loads = new AtomicInteger();
+        JavaSupportPack pack = new JavaSupportPack(() -> {
+            loads.incrementAndGet();
+            return JavaSecuritySupport.getSecuritySupport();
+        }, "java.security", "java.security.cert");
+
+        assertThat(pack.supports(String.class)).isFalse();
+        assertThat(pack.supports(Object.class)).isFalse();
+        assertThat(pack.tryGenerate(Integer.class)).isEmpty();
+        assertThatThrownBy(() -> pack.generate(String.class)).isInstanceOf(UnsupportedTypeError.class);
+
+        assertThat(pack.isLoaded()).isFalse();
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void givenTypeInPackPackages_whenRequested_thenPackIsLoadedOnce() {
+        AtomicInteger loads = new AtomicInteger();
+        JavaSupportPack pack = new JavaSupportPack(() -> {
+            loads.incrementAndGet();
+            return JavaSecuritySupport.getSecuritySupport();
+        }, "java.security", "java.security.cert");
+
+        assertThat(pack.supports(SecurityPermission.class)).isTrue();
+        assertThat(pack.generate(SecurityPermission.class).get()).isInstanceOf(SecurityPermission.class);
+        assertThat(pack.tryGenerate(Principal.class)).isPresent();
+
+        assertThat(pack.isLoaded()).isTrue();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void givenTypeWithSuperTypeInPackPackages_whenRequested_thenPackIsLoaded() {
+        JavaSupportPack pack = new JavaSupportPack(JavaSecuritySupport::getSecuritySupport, "java.security");
+
+        assertThat(pack.supports(UserPrincipal.class)).isFalse();
+        assertThat(pack.isLoaded()).isTrue();
+    }
+
+    @Test
+    void javaInternals_whenRequestingJavaLangType_thenOnlyLoadsPacksCoveringType() {
+        AggregatedValueGenerator support = (AggregatedValueGenerator) JavaInternals.getSupported();
+        List<ValueGenerator<?>> packs = new ArrayList<>(support.aggregated());
+
+        assertThat(support.generate(String.class).get()).isInstanceOf(String.class);
+
+        assertThat(packs).first().satisfies(pack -> assertThat(((JavaSupportPack) pack).isLoaded()).isTrue());
+        assertThat(packs).last().satisfies(pack -> assertThat(((JavaSupportPack) pack).isLoaded()).isFalse());
+    }
+
+    private static class UserPrincipal implements Principal {
+        @Override
+        public String getName() {
+            return "user";
+        }
+    }
+}
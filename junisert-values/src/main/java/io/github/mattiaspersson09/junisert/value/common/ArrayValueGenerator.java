@@ -18,17 +18,59 @@ package io.github.mattiaspersson09.junisert.value.common;
 import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
 import io.github.mattiaspersson09.junisert.api.value.Value;
 import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
+import io.github.mattiaspersson09.junisert.value.common.TypeClassifier.Kind;
 
 import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Optional;
 
 /**
- * {@link ValueGenerator} supporting and creating values for arrays.
+ * {@link ValueGenerator} supporting and creating values for arrays. Arrays is by default created empty, as a
+ * canonical empty instance per array type.
+ *
+ * @see #populated(ValueGenerator, int)
  */
 public class ArrayValueGenerator implements ValueGenerator<Object> {
+    private static final ClassValue<Object> EMPTY_ARRAYS = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(Class<?> arrayType) {
+            return Array.newInstance(arrayType.getComponentType(), 0);
+        }
+    };
+
+    private final ValueGenerator<?> elementSupport;
+    private final int length;
+
     /**
      * Creates a new array value generator.
      */
     public ArrayValueGenerator() {
+        this(null, 0);
+    }
+
+    ArrayValueGenerator(ValueGenerator<?> elementSupport, int length) {
+        this.elementSupport = elementSupport;
+        this.length = length;
+    }
+
+    /**
+     * Creates a new array value generator, creating arrays having {@code length} elements from
+     * {@code elementSupport}, with an empty array as empty representation. Arrays of primitives is filled without
+     * boxing every element and multidimensional arrays is populated in every dimension. Arrays with elements not
+     * supported by {@code elementSupport} is still created empty.
+     *
+     * @param elementSupport creating values for array elements
+     * @param length         of populated arrays
+     * @return a new array value generator creating populated arrays
+     * @throws IllegalArgumentException if length is negative
+     */
+    public static ArrayValueGenerator populated(ValueGenerator<?> elementSupport, int length)
+            throws IllegalArgumentException {
+        if (length < 0) {
+            throw new IllegalArgumentException("Can't populate arrays with negative length: " + length);
+        }
+
+        return new ArrayValueGenerator(elementSupport, length);
     }
 
     @Override
@@ -37,11 +79,68 @@ public class ArrayValueGenerator implements ValueGenerator<Object> {
             throw new UnsupportedTypeError(fromType);
         }
 
-        return Value.of(() -> Array.newInstance(fromType.getComponentType(), 0));
+        Object empty = EMPTY_ARRAYS.get(fromType);
+
+        if (elementSupport == null || length == 0) {
+            return Value.of(() -> empty);
+        }
+
+        Class<?> componentType = fromType.getComponentType();
+        Optional<? extends Value<?>> element = generateElement(componentType);
+
+        if (!element.isPresent()) {
+            return Value.of(() -> empty);
+        }
+
+        Value<?> elementValue = element.get();
+        return Value.of(() -> populate(componentType, elementValue), () -> empty);
     }
 
     @Override
     public boolean supports(Class<?> type) {
-        return type.isArray();
+        return TypeClassifier.kindOf(type) == Kind.ARRAY;
+    }
+
+    private Optional<? extends Value<?>> generateElement(Class<?> componentType) {
+        // Multidimensional arrays is populated by this generator in every dimension
+        return supports(componentType)
+                ? Optional.of(generate(componentType))
+                : elementSupport.tryGenerate(componentType);
+    }
+
+    private Object populate(Class<?> componentType, Value<?> elementValue) {
+        Object array = Array.newInstance(componentType, length);
+
+        if (componentType.isPrimitive()) {
+            fillPrimitives(array, elementValue.get());
+            return array;
+        }
+
+        Object[] elements = (Object[]) array;
+        for (int i = 0; i < length; i++) {
+            elements[i] = elementValue.get();
+        }
+
+        return array;
+    }
+
+    private static void fillPrimitives(Object array, Object element) {
+        if (array instanceof int[]) {
+            Arrays.fill((int[]) array, (Integer) element);
+        } else if (array instanceof long[]) {
+            Arrays.fill((long[]) array, (Long) element);
+        } else if (array instanceof double[]) {
+            Arrays.fill((double[]) array, (Double) element);
+        } else if (array instanceof float[]) {
+            Arrays.fill((float[]) array, (Float) element);
+        } else if (array instanceof boolean[]) {
+            Arrays.fill((boolean[]) array, (Boolean) element);
+        } else if (array instanceof byte[]) {
+            Arrays.fill((byte[]) array, (Byte) element);
+        } else if (array instanceof short[]) {
+            Arrays.fill((short[]) array, (Short) element);
+        } else if (array instanceof char[]) {
+            Arrays.fill((char[]) array, (Character) element);
+        }
     }
 }
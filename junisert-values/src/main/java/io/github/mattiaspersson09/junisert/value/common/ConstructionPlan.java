@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.value.common;
+
+import io.github.mattiaspersson09.junisert.api.value.UnsupportedConstructionError;
+import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
+import io.github.mattiaspersson09.junisert.api.value.Value;
+import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
+import io.github.mattiaspersson09.junisert.common.logging.Logger;
+
+import java.lang.reflect.Constructor;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Plan for constructing instances of a unit from a chosen argument constructor, created once per unit and reused
+ * for every instance. Parameters supported by given value support is always generated by the support, every other
+ * parameter is constructed as a {@link Dependency} which is planned the first time it's needed and then reused.
+ */
+final class ConstructionPlan {
+    private static final Logger LOGGER = Logger.getLogger(ConstructionPlan.class);
+
+    private final Class<?> unit;
+    private final Constructor<?> constructor;
+    private final Class<?>[] parameterTypes;
+    private final ValueGenerator<?> valueSupport;
+    private final boolean forceConstructorAccess;
+    private final int dependencyDepth;
+    private final Function<Class<?>, Constructor<?>> extractDependencyConstructor;
+    private final AtomicReferenceArray<Dependency> dependencies;
+    private volatile boolean accessible;
+
+    /**
+     * Creates a new construction plan for a unit.
+     *
+     * @param constructor                  chosen to construct instances of the unit
+     * @param valueSupport                 generating values for supported parameters
+     * @param forceConstructorAccess       with reflection if necessary when {@code constructor} is inaccessible
+     * @param dependencyDepth              for parameters needing to be constructed as dependencies
+     * @param extractDependencyConstructor function to find a dependency's suitable constructor
+     */
+    ConstructionPlan(Constructor<?> constructor,
+                     ValueGenerator<?> valueSupport,
+                     boolean forceConstructorAccess,
+                     int dependencyDepth,
+                     Function<Class<?>, Constructor<?>> extractDependencyConstructor) {
+        this.unit = constructor.getDeclaringClass();
+        this.constructor = constructor;
+        this.parameterTypes = constructor.getParameterTypes();
+        this.valueSupport = valueSupport;
+        this.forceConstructorAccess = forceConstructorAccess;
+        this.dependencyDepth = dependencyDepth;
+        this.extractDependencyConstructor = extractDependencyConstructor;
+        this.dependencies = new AtomicReferenceArray<>(parameterTypes.length);
+    }
+
+    /**
+     * Constructs a new instance of the unit from the chosen constructor.
+     *
+     * @return instance value of the unit
+     * @throws UnsupportedTypeError         if unable to find support for or reflectively create a parameter
+     * @throws UnsupportedConstructionError if unable to construct the unit
+     */
+    Value<?> construct() throws UnsupportedTypeError, UnsupportedConstructionError {
+        try {
+            if (forceConstructorAccess && !accessible) {
+                constructor.setAccessible(true);
+                accessible = true;
+            }
+
+            Object[] arguments = new Object[parameterTypes.length];
+
+            for (int i = 0; i < parameterTypes.length; i++) {
+                arguments[i] = createInjectableDependency(i);
+            }
+
+            /*
+                We choose to fail fast instead of letting user figure out why reflection fails later
+                if we were to use lazy construction.
+            */
+            return Value.ofEager(constructor.newInstance(arguments));
+        } catch (Exception e) {
+            throw new UnsupportedConstructionError(unit, e);
+        }
+    }
+
+    /**
+     * Compiles a factory constructing new instances of the unit the same way as {@link #construct()}, with every
+     * parameter resolved once. Supported parameters are still generated by the value support for every instance,
+     * except for the first instance which gets the value resolved when compiling.
+     *
+     * @return compiled factory, or empty if a parameter is neither supported nor constructable as a dependency
+     */
+    Optional<Supplier<Object>> compile() {
+        Supplier<?>[] arguments = new Supplier<?>[parameterTypes.length];
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Class<?> parameter = parameterTypes[i];
+            Optional<? extends Value<?>> supported = valueSupport.tryGenerate(parameter);
+
+            if (supported.isPresent()) {
+                arguments[i] = new SupportedArgument(valueSupport, parameter, supported.get());
+                continue;
+            }
+
+            Dependency dependency;
+
+            try {
+                dependency = getDependency(i);
+            } catch (UnsupportedTypeError e) {
+                return Optional.empty();
+            }
+
+            if (!dependency.isSupported()) {
+                return Optional.empty();
+            }
+
+            arguments[i] = dependency::createInstance;
+        }
+
+        return InstanceFactory.compile(constructor, forceConstructorAccess, arguments);
+    }
+
+    /**
+     * Gets the chosen constructor of this plan.
+     *
+     * @return chosen constructor
+     */
+    Constructor<?> getConstructor() {
+        return constructor;
+    }
+
+    private Object createInjectableDependency(int index) {
+        Class<?> parameter = parameterTypes[index];
+
+        // If there is support for the parameter type, let the support construct it and ignore dependency construction
+        Optional<? extends Value<?>> supported = valueSupport.tryGenerate(parameter);
+
+        if (supported.isPresent()) {
+            return supported.get().get();
+        }
+
+        Dependency dependency = getDependency(index);
+
+        // Dependency is not abstract or an interface and can access constructor to create instance
+        if (dependency.isSupported()) {
+            return dependency.createInstance();
+        }
+
+        // There are deeper dependencies that we can't directly construct, at this point we can't continue
+        LOGGER.warn("Unable to find support for dependency <{0}> in dependent unit: {1}", parameter, unit);
+        throw new UnsupportedTypeError(parameter);
+    }
+
+    private Dependency getDependency(int index) {
+        Dependency dependency = dependencies.get(index);
+
+        if (dependency == null) {
+            dependency = new Dependency(
+                    unit,
+                    extractDependencyConstructor.apply(parameterTypes[index]),
+                    valueSupport,
+                    forceConstructorAccess,
+                    dependencyDepth,
+                    extractDependencyConstructor
+            );
+            dependencies.compareAndSet(index, null, dependency);
+        }
+
+        return dependencies.get(index);
+    }
+
+    // Support is expected to cache its values, so asking it again for every instance is cheap and keeps up with
+    // changes to the support instead of freezing the first value
+    private static final class SupportedArgument implements Supplier<Object> {
+        private final ValueGenerator<?> valueSupport;
+        private final Class<?> parameter;
+        private final AtomicReference<Value<?>> resolved;
+
+        private SupportedArgument(ValueGenerator<?> valueSupport, Class<?> parameter, Value<?> resolved) {
+            this.valueSupport = valueSupport;
+            this.parameter = parameter;
+            this.resolved = new AtomicReference<>(resolved);
+        }
+
+        @Override
+        public Object get() {
+            Value<?> value = resolved.get();
+
+            if (value == null || !resolved.compareAndSet(value, null)) {
+                value = valueSupport.tryGenerate(parameter).orElseThrow(() -> new UnsupportedTypeError(parameter));
+            }
+
+            return value.get();
+        }
+    }
+}
@@ -17,6 +17,7 @@ package io.github.mattiaspersson09.junisert.value.common;
 
 import io.github.mattiaspersson09.junisert.api.value.UnsupportedConstructionError;
 import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
+import io.github.mattiaspersson09.junisert.api.value.Value;
 import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
 import io.github.mattiaspersson09.junisert.common.logging.Logger;
 
@@ -24,6 +25,8 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -35,7 +38,9 @@ import java.util.stream.Stream;
  * <br>
  * A dependency will try to handle its own dependencies with supporting generator or with reflection if given
  * {@code dependencyDepthsLeft is above 0}. Too large depth will affect performance, so it should
- * be capped at a decent level by the caller.
+ * be capped at a decent level by the caller.<br>
+ * <br>
+ * A dependency can be reused to create several instances, its own dependencies is only planned once.
  */
 final class Dependency {
     private static final Logger LOGGER = Logger.getLogger(Dependency.class);
@@ -47,6 +52,10 @@ final class Dependency {
     private final boolean forceConstructorAccess;
     private final int dependencyDepthsLeft;
     private final Function<Class<?>, Constructor<?>> extractDependencyConstructor;
+    private final Parameter[] parameters;
+    private final boolean recursive;
+    private final AtomicReferenceArray<Dependency> dependencies;
+    private volatile boolean accessible;
 
     /**
      * Creates a new dependency to be constructed for a dependent unit.
@@ -73,6 +82,9 @@ final class Dependency {
         this.valueSupport = valueSupport;
         this.dependencyDepthsLeft = dependencyDepthsLeft;
         this.extractDependencyConstructor = extractDependencyConstructor;
+        this.parameters = dependencyConstructor.getParameters();
+        this.recursive = Stream.of(parameters).anyMatch(parameter -> isRecursiveParameter(parameter.getType()));
+        this.dependencies = new AtomicReferenceArray<>(parameters.length);
     }
 
     /**
@@ -89,18 +101,21 @@ final class Dependency {
      */
     Object createInstance() throws UnsupportedTypeError, UnsupportedConstructionError {
         // This dependency must be null because we found a recursive parameter but can't go deeper
-        if (dependencyDepthsLeft == 0 && Stream.of(constructor.getParameters()).anyMatch(this::isRecursiveParameter)) {
+        if (dependencyDepthsLeft == 0 && recursive) {
             return null;
         }
 
         try {
-            if (forceConstructorAccess) {
+            if (forceConstructorAccess && !accessible) {
                 constructor.setAccessible(true);
+                accessible = true;
             }
 
-            Object[] arguments = Stream.of(constructor.getParameters())
-                    .map(this::toValue)
-                    .toArray();
+            Object[] arguments = new Object[parameters.length];
+
+            for (int i = 0; i < parameters.length; i++) {
+                arguments[i] = toValue(i);
+            }
 
             return constructor.newInstance(arguments);
         } catch (Exception e) {
@@ -125,66 +140,77 @@ final class Dependency {
         return shouldBeConstructable(constructor, forceConstructorAccess);
     }
 
-    private Object toValue(Parameter parameter) {
+    private Object toValue(int index) {
+        Class<?> parameter = parameters[index].getType();
+
         // Support generator should be prioritized to be able to use caching abilities and re-usage
         // and to prevent unnecessary work that might affect performance
-        if (valueSupport.supports(parameter.getType())) {
-            return valueSupport.generate(parameter.getType()).get();
+        Optional<? extends Value<?>> supported = valueSupport.tryGenerate(parameter);
+
+        if (supported.isPresent()) {
+            return supported.get().get();
         } else if (isRecursiveParameter(parameter)) {
-            LOGGER.info("Found recursive parameter: {0}", parameter.getType());
+            LOGGER.info("Found recursive parameter: {0}", parameter);
         } else if (isCyclicParameter(parameter)) {
-            LOGGER.info("Found cyclic (leading to recursion) parameter: {0}", parameter.getType());
+            LOGGER.info("Found cyclic (leading to recursion) parameter: {0}", parameter);
 
             if (dependencyDepthsLeft == 0) {
                 LOGGER.info(
                         "Is at deepest accepted dependency, will set <null> for <{0}> to avoid vicious recursive cycle",
-                        parameter.getType());
+                        parameter);
                 return null;
             }
         }
 
         if (dependencyDepthsLeft > 0 && extractDependencyConstructor != null) {
-            Dependency dependency = createDependency(parameter);
+            Dependency dependency = getDependency(index);
 
             if (dependency.isSupported()) {
                 return dependency.createInstance();
             }
         }
 
-        LOGGER.warn("Unable to find support for dependency <{0}> in dependent unit: {1}", parameter.getType(), unit);
-        throw new UnsupportedTypeError(parameter.getType());
+        LOGGER.warn("Unable to find support for dependency <{0}> in dependent unit: {1}", parameter, unit);
+        throw new UnsupportedTypeError(parameter);
     }
 
-    private Dependency createDependency(Parameter parameter) {
-        return new Dependency(
-                unit,
-                extractDependencyConstructor.apply(parameter.getType()),
-                valueSupport,
-                forceConstructorAccess,
-                dependencyDepthsLeft - 1,
-                extractDependencyConstructor);
+    private Dependency getDependency(int index) {
+        Dependency dependency = dependencies.get(index);
+
+        if (dependency == null) {
+            dependency = new Dependency(
+                    unit,
+                    extractDependencyConstructor.apply(parameters[index].getType()),
+                    valueSupport,
+                    forceConstructorAccess,
+                    dependencyDepthsLeft - 1,
+                    extractDependencyConstructor);
+            dependencies.compareAndSet(index, null, dependency);
+        }
+
+        return dependencies.get(index);
     }
 
-    private boolean isRecursiveParameter(Parameter parameter) {
-        return Objects.equals(unit, parameter.getType());
+    private boolean isRecursiveParameter(Class<?> parameter) {
+        return Objects.equals(unit, parameter);
     }
 
-    private boolean isRecursiveParameter(Parameter parameter, Constructor<?> owningConstructor) {
-        return Objects.equals(owningConstructor.getDeclaringClass(), parameter.getType());
+    private boolean isRecursiveParameter(Class<?> parameter, Constructor<?> owningConstructor) {
+        return Objects.equals(owningConstructor.getDeclaringClass(), parameter);
     }
 
     // A cyclic parameter is described as a parameter that; if trying to construct leads to indirect recursion
-    private boolean isCyclicParameter(Parameter parameter) {
+    private boolean isCyclicParameter(Class<?> parameter) {
         if (extractDependencyConstructor == null) {
             return false;
         }
 
-        Constructor<?> constructorConstructionLeadsTo = extractDependencyConstructor.apply(parameter.getType());
+        Constructor<?> constructorConstructionLeadsTo = extractDependencyConstructor.apply(parameter);
         return isRecursiveConstructor(constructorConstructionLeadsTo);
     }
 
     private boolean isRecursiveConstructor(Constructor<?> constructor) {
-        return constructor != null && Stream.of(constructor.getParameters())
+        return constructor != null && Stream.of(constructor.getParameterTypes())
                 .anyMatch(parameter -> isRecursiveParameter(parameter, constructor));
     }
 
@@ -19,14 +19,13 @@ import io.github.mattiaspersson09.junisert.api.value.UnsupportedConstructionErro
 import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
 import io.github.mattiaspersson09.junisert.api.value.Value;
 import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
-import io.github.mattiaspersson09.junisert.common.logging.Logger;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Parameter;
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -40,15 +39,32 @@ import java.util.stream.Stream;
  * {@code maxDependencyDepth} using {@link DependencyObjectValueGenerator.Builder}. Dependency instances is
  * recursively created until {@code maxDependencyDepth} is reached or a construction on the way there is unsupported.
  *
+ * <p><br>
+ * A {@link ConstructionPlan} is created once per type and reused for every instance, so constructors is only
+ * looked up and made accessible once. Support for a type is also resolved once, given dependency generator is
+ * expected to give the same answer every time it's asked about the same type.
+ *
  * @see #buildDependencySupport(ValueGenerator)
  */
 public class DependencyObjectValueGenerator implements ValueGenerator<Object> {
-    private static final Logger LOGGER = Logger.getLogger(DependencyObjectValueGenerator.class);
     static final int MAX_DEPENDENCY_DEPTH = 5;
+    // Best constructor only depends on the type, so it's shared by every generator
+    private static final ClassValue<Optional<Constructor<?>>> BEST_CONSTRUCTORS =
+            new ClassValue<Optional<Constructor<?>>>() {
+                @Override
+                protected Optional<Constructor<?>> computeValue(Class<?> type) {
+                    return resolveBestConstructor(type);
+                }
+            };
+    // Plans is stored per type and must never reference a generator, or its class values would never be released
+    private static final Function<Class<?>, Constructor<?>> EXTRACT_DEPENDENCY_CONSTRUCTOR =
+            dependency -> findBestConstructor(dependency).orElseThrow(() -> new UnsupportedTypeError(dependency));
 
     private final ValueGenerator<?> dependencyGenerator;
     private final boolean forceConstructorAccess;
     private final int maxDependencyDepth;
+    private final ClassValue<Optional<ConstructionPlan>> plans;
+    private final ClassValue<Optional<ConstructionPlan>> supportedPlans;
 
     /**
      * Creates a new dependency object value generator, without trying to force access to argument constructor
@@ -57,9 +73,7 @@ public class DependencyObjectValueGenerator implements ValueGenerator<Object> {
      * @param dependencyGenerator non-null {@link ValueGenerator} creating values for supported constructor parameters
      */
     public DependencyObjectValueGenerator(ValueGenerator<?> dependencyGenerator) {
-        this.dependencyGenerator = Objects.requireNonNull(dependencyGenerator);
-        this.forceConstructorAccess = false;
-        this.maxDependencyDepth = 0;
+        this(Objects.requireNonNull(dependencyGenerator), false, 0);
     }
 
     DependencyObjectValueGenerator(ValueGenerator<?> dependencyGenerator,
@@ -68,6 +82,18 @@ public class DependencyObjectValueGenerator implements ValueGenerator<Object> {
         this.dependencyGenerator = dependencyGenerator;
         this.forceConstructorAccess = forceConstructorAccess;
         this.maxDependencyDepth = maxDependencyDepth;
+        this.plans = new ClassValue<Optional<ConstructionPlan>>() {
+            @Override
+            protected Optional<ConstructionPlan> computeValue(Class<?> type) {
+                return createPlan(type);
+            }
+        };
+        this.supportedPlans = new ClassValue<Optional<ConstructionPlan>>() {
+            @Override
+            protected Optional<ConstructionPlan> computeValue(Class<?> type) {
+                return plans.get(type).filter(plan -> isSupported(plan.getConstructor()));
+            }
+        };
     }
 
     /**
@@ -97,65 +123,54 @@ public class DependencyObjectValueGenerator implements ValueGenerator<Object> {
 
     @Override
     public Value<?> generate(Class<?> fromType) throws UnsupportedTypeError, UnsupportedConstructionError {
-        if (WrapperPrimitiveValueGenerator.isWrapperPrimitive(fromType)) {
-            throw new UnsupportedTypeError(fromType);
-        }
-
-        Optional<Constructor<?>> argumentConstructor = findConstructor(fromType, this::isArgumentConstructor);
-
-        if (argumentConstructor.isPresent()) {
-            Constructor<?> constructor = argumentConstructor.get();
-
-            try {
-                if (forceConstructorAccess) {
-                    constructor.setAccessible(true);
-                }
-
-                Object[] arguments = Stream.of(constructor.getParameters())
-                        .map(Parameter::getType)
-                        .map(parameter -> createInjectableDependency(fromType, parameter))
-                        .toArray();
-
-                /*
-                    We choose to fail fast instead of letting user figure out why reflection fails later
-                    if we were to use lazy construction.
-                */
-                return Value.ofEager(constructor.newInstance(arguments));
-            } catch (Exception e) {
-                throw new UnsupportedConstructionError(fromType, e);
-            }
-        }
-
-        throw new UnsupportedTypeError(fromType);
+        return plans.get(fromType)
+                .orElseThrow(() -> new UnsupportedTypeError(fromType))
+                .construct();
     }
 
     @Override
     public boolean supports(Class<?> type) {
-        if (WrapperPrimitiveValueGenerator.isWrapperPrimitive(type)) {
-            return false;
-        }
+        return supportedPlans.get(type).isPresent();
+    }
 
-        Optional<Constructor<?>> argumentConstructor = findConstructor(type, this::isArgumentConstructor);
+    @Override
+    public Optional<Value<?>> tryGenerate(Class<?> type) throws UnsupportedConstructionError {
+        return supportedPlans.get(type).map(ConstructionPlan::construct);
+    }
 
-        if (!argumentConstructor.isPresent()) {
-            return false;
+    /**
+     * Compiles a factory constructing new instances of {@code type} the same way as this generator, with the same
+     * constructor and dependency rules, but invoking a constructor handle with arguments resolved once.
+     * Factories are not cached by this generator, callers should compile once per type and reuse the factory.
+     *
+     * @param type to compile factory for
+     * @return compiled factory, or empty if type is not supported or can't be compiled
+     */
+    public Optional<Supplier<Object>> compileFactory(Class<?> type) {
+        return plans.get(type)
+                .filter(plan -> Dependency.shouldBeConstructable(plan.getConstructor(), forceConstructorAccess))
+                .flatMap(ConstructionPlan::compile);
+    }
+
+    private Optional<ConstructionPlan> createPlan(Class<?> type) {
+        if (TypeClassifier.isWrapperPrimitive(type)) {
+            return Optional.empty();
         }
 
-        Constructor<?> constructor = argumentConstructor.get();
+        return Stream.of(type.getDeclaredConstructors())
+                .filter(constructor -> constructor.getParameterCount() > 0)
+                .min(Comparator.comparingInt(Constructor::getParameterCount))
+                .map(constructor -> new ConstructionPlan(constructor, dependencyGenerator, forceConstructorAccess,
+                        maxDependencyDepth, EXTRACT_DEPENDENCY_CONSTRUCTOR));
+    }
 
-        if (!isConstructable(constructor)) {
+    private boolean isSupported(Constructor<?> argumentConstructor) {
+        if (!Dependency.shouldBeConstructable(argumentConstructor, forceConstructorAccess)) {
             return false;
         }
 
-        Parameter[] parameters = constructor.getParameters();
-
-        for (Parameter parameter : parameters) {
-            boolean isDependencyPotentiallyConstructable = Dependency.shouldBeConstructable(
-                    findBestConstructor(parameter.getType()).orElse(null),
-                    forceConstructorAccess
-            );
-
-            if (!dependencyGenerator.supports(parameter.getType()) && !isDependencyPotentiallyConstructable) {
+        for (Class<?> parameter : argumentConstructor.getParameterTypes()) {
+            if (!dependencyGenerator.supports(parameter) && !isDependencyPotentiallyConstructable(parameter)) {
                 return false;
             }
         }
@@ -163,72 +178,31 @@ public class DependencyObjectValueGenerator implements ValueGenerator<Object> {
         return true;
     }
 
-    private boolean isArgumentConstructor(Constructor<?> constructor) {
-        return constructor.getParameterCount() > 0;
+    private boolean isDependencyPotentiallyConstructable(Class<?> parameter) {
+        return Dependency.shouldBeConstructable(findBestConstructor(parameter).orElse(null), forceConstructorAccess);
     }
 
-    private boolean isConstructable(Constructor<?> constructor) {
-        return Dependency.shouldBeConstructable(constructor, forceConstructorAccess);
+    private static Optional<Constructor<?>> findBestConstructor(Class<?> type) {
+        return BEST_CONSTRUCTORS.get(type);
     }
 
-    private Object createInjectableDependency(Class<?> dependentUnit, Class<?> parameter) {
-        // If there is support for the parameter type, let the support construct it and ignore dependency construction
-        if (dependencyGenerator.supports(parameter)) {
-            return dependencyGenerator.generate(parameter).get();
-        }
-
-        Dependency dependency = new Dependency(
-                dependentUnit,
-                findBestConstructor(parameter)
-                        .orElseThrow(() -> new UnsupportedTypeError(parameter)),
-                dependencyGenerator,
-                forceConstructorAccess,
-                maxDependencyDepth,
-                nestedDependency -> findBestConstructor(nestedDependency)
-                        .orElseThrow(() -> new UnsupportedTypeError(nestedDependency))
-        );
-
-        // Dependency is not abstract or an interface and can access constructor to create instance
-        if (dependency.isSupported()) {
-            return dependency.createInstance();
-        }
-
-        // There are deeper dependencies that we can't directly construct, at this point we can't continue
-        LOGGER.warn("Unable to find support for dependency <{0}> in dependent unit: {1}",
-                parameter, dependentUnit);
-        throw new UnsupportedTypeError(parameter);
-    }
-
-    private Optional<Constructor<?>> findConstructor(Class<?> type, Predicate<Constructor<?>> predicate) {
-        return Stream.of(type.getDeclaredConstructors())
-                .filter(predicate)
-                .min(Comparator.comparingInt(Constructor::getParameterCount));
-    }
-
-    private Optional<Constructor<?>> findBestConstructor(Class<?> type) {
-        Optional<Constructor<?>> nonRecursive = findNonRecursiveConstructor(type);
+    private static Optional<Constructor<?>> resolveBestConstructor(Class<?> type) {
+        Constructor<?>[] constructors = type.getDeclaredConstructors();
+        Optional<Constructor<?>> nonRecursive = Stream.of(constructors)
+                .filter(c -> !isRecursiveConstructor(c))
+                .findAny();
 
         if (nonRecursive.isPresent()) {
             return nonRecursive;
         }
 
-        return Stream.of(type.getDeclaredConstructors())
+        return Stream.of(constructors)
                 .min(Comparator.comparingInt(Constructor::getParameterCount));
     }
 
-    private Optional<Constructor<?>> findNonRecursiveConstructor(Class<?> type) {
-        return Stream.of(type.getDeclaredConstructors())
-                .filter(c -> !isRecursiveConstructor(c))
-                .findAny();
-    }
-
-    private boolean isRecursiveConstructor(Constructor<?> constructor) {
-        return constructor != null && Stream.of(constructor.getParameters())
-                .anyMatch(parameter -> isRecursiveParameter(parameter, constructor));
-    }
-
-    private boolean isRecursiveParameter(Parameter parameter, Constructor<?> owningConstructor) {
-        return Objects.equals(owningConstructor.getDeclaringClass(), parameter.getType());
+    private static boolean isRecursiveConstructor(Constructor<?> constructor) {
+        return constructor != null && Stream.of(constructor.getParameterTypes())
+                .anyMatch(parameter -> Objects.equals(constructor.getDeclaringClass(), parameter));
     }
 
     int getMaxDependencyDepth() {
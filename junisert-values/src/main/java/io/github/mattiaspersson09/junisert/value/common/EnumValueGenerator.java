@@ -19,15 +19,23 @@ import io.github.mattiaspersson09.junisert.api.value.UnsupportedConstructionErro
 import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
 import io.github.mattiaspersson09.junisert.api.value.Value;
 import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
-
-import java.lang.reflect.Field;
-import java.util.stream.Stream;
+import io.github.mattiaspersson09.junisert.value.common.TypeClassifier.Kind;
 
 /**
  * {@link ValueGenerator} supporting and creating values for {@code enum}s, creating value from a declared constant
- * in the requested enum.
+ * in the requested enum. Empty representation of an enum is {@code null}, distinct constants can be generated by
+ * {@link #generate(Class, int)}.
  */
 public class EnumValueGenerator implements ValueGenerator<Object> {
+    // Declared constants is looked up once per enum, not for every value
+    private static final ClassValue<Object[]> CONSTANTS = new ClassValue<Object[]>() {
+        @Override
+        protected Object[] computeValue(Class<?> enumeration) {
+            Object[] constants = enumeration.getEnumConstants();
+            return constants != null ? constants : new Object[0];
+        }
+    };
+
     /**
      * Creates a new enum value generator.
      */
@@ -36,29 +44,39 @@ public class EnumValueGenerator implements ValueGenerator<Object> {
 
     @Override
     public Value<?> generate(Class<?> fromType) throws UnsupportedTypeError {
+        return generate(fromType, 0);
+    }
+
+    /**
+     * Generates value from the declared constant at {@code rotation}, wrapping around the declared constants.
+     * Different rotations of the same enum can be used to get distinct non-empty constants, as long as the enum
+     * declares more than one constant. The empty representation is always {@code null}.
+     *
+     * @param fromType enum to generate value for
+     * @param rotation index of declared constant, wrapping around
+     * @return value of declared constant
+     * @throws UnsupportedTypeError if type is not an enum
+     */
+    public Value<?> generate(Class<?> fromType, int rotation) throws UnsupportedTypeError {
         if (!supports(fromType)) {
             throw new UnsupportedTypeError(fromType);
         }
 
-        return Value.of(() -> getTypeSafeEnumConstant(fromType));
+        return Value.of(() -> getConstant(fromType, rotation));
     }
 
     @Override
     public boolean supports(Class<?> type) {
-        return type.isEnum();
+        return TypeClassifier.kindOf(type) == Kind.ENUM;
     }
 
-    @SuppressWarnings("unchecked")
-    private <T extends Enum<T>> T toTypeSafeEnumValue(Field field) {
-        return Enum.valueOf((Class<T>) field.getGenericType(), field.getName());
-    }
+    private Object getConstant(Class<?> enumeration, int rotation) {
+        Object[] constants = CONSTANTS.get(enumeration);
+
+        if (constants.length == 0) {
+            throw new UnsupportedConstructionError(enumeration);
+        }
 
-    @SuppressWarnings("unchecked")
-    private <T extends Enum<T>> T getTypeSafeEnumConstant(Class<?> enumeration) {
-        return (T) Stream.of(enumeration.getDeclaredFields())
-                .filter(Field::isEnumConstant)
-                .map(this::toTypeSafeEnumValue)
-                .findAny()
-                .orElseThrow(() -> new UnsupportedConstructionError(enumeration));
+        return constants[Math.floorMod(rotation, constants.length)];
     }
 }
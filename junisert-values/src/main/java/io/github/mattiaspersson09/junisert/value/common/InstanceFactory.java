@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.value.common;
+
+import io.github.mattiaspersson09.junisert.api.value.UnsupportedConstructionError;
+import io.github.mattiaspersson09.junisert.value.common.TypeClassifier.Kind;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Compiled factory creating new instances of a unit from a constructor handle, with argument suppliers resolved
+ * once when compiled. Which constructor and arguments to use is decided by the generators compiling factories,
+ * see {@link ObjectValueGenerator#compileFactory(Class)} and
+ * {@link DependencyObjectValueGenerator#compileFactory(Class)}.
+ */
+final class InstanceFactory implements Supplier<Object> {
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final Class<?> unit;
+    private final MethodHandle constructor;
+    private final Supplier<?>[] arguments;
+
+    private InstanceFactory(Class<?> unit, MethodHandle constructor, Supplier<?>[] arguments) {
+        this.unit = unit;
+        this.constructor = constructor;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Compiles a factory invoking given {@code constructor} with values from given {@code arguments}.
+     *
+     * @param constructor            to create instances with
+     * @param forceConstructorAccess with reflection if necessary when {@code constructor} is inaccessible
+     * @param arguments              supplying a value for every parameter of {@code constructor}, in declared order
+     * @return compiled factory, or empty if the unit can't be instantiated or the constructor can't be accessed
+     */
+    static Optional<Supplier<Object>> compile(Constructor<?> constructor,
+                                              boolean forceConstructorAccess,
+                                              Supplier<?>[] arguments) {
+        Class<?> unit = constructor.getDeclaringClass();
+        Kind kind = TypeClassifier.kindOf(unit);
+
+        if (kind != Kind.CONCRETE && kind != Kind.RECORD) {
+            return Optional.empty();
+        }
+
+        try {
+            if (forceConstructorAccess) {
+                constructor.setAccessible(true);
+            }
+
+            MethodHandle handle = MethodHandles.lookup()
+                    .unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, arguments.length)
+                    .asType(FACTORY_TYPE);
+
+            return Optional.of(new InstanceFactory(unit, handle, arguments));
+        } catch (RuntimeException | IllegalAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Object get() {
+        try {
+            Object[] values = new Object[arguments.length];
+
+            for (int i = 0; i < arguments.length; i++) {
+                values[i] = arguments[i].get();
+            }
+
+            return (Object) constructor.invokeExact(values);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UnsupportedConstructionError(unit, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "InstanceFactory{" +
+                "unit=" + unit.getName() +
+                ", arguments=" + arguments.length +
+                '}';
+    }
+}
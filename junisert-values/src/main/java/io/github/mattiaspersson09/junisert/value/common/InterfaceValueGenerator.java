@@ -18,7 +18,9 @@ package io.github.mattiaspersson09.junisert.value.common;
 import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
 import io.github.mattiaspersson09.junisert.api.value.Value;
 import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
+import io.github.mattiaspersson09.junisert.value.common.TypeClassifier.Kind;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
@@ -38,6 +40,14 @@ import java.util.Objects;
  * </ul>
  */
 public class InterfaceValueGenerator implements ValueGenerator<Object> {
+    // Proxy class is resolved once per interface, not for every value
+    private static final ClassValue<ProxyFactory> PROXY_FACTORIES = new ClassValue<ProxyFactory>() {
+        @Override
+        protected ProxyFactory computeValue(Class<?> type) {
+            return new ProxyFactory(type);
+        }
+    };
+
     /**
      * Creates a new interface value generator.
      */
@@ -50,33 +60,70 @@ public class InterfaceValueGenerator implements ValueGenerator<Object> {
             throw new UnsupportedTypeError(fromType);
         }
 
-        return Value.of(() -> Proxy.newProxyInstance(fromType.getClassLoader(), new Class[]{fromType},
-                new AnonymousInvocation()));
+        return Value.of(PROXY_FACTORIES.get(fromType)::create);
     }
 
     @Override
     public boolean supports(Class<?> type) {
-        return type.isInterface();
+        return TypeClassifier.kindOf(type) == Kind.INTERFACE;
+    }
+
+    private static final class ProxyFactory {
+        private final Class<?> type;
+        private final Constructor<?> constructor;
+
+        private ProxyFactory(Class<?> type) {
+            this.type = type;
+            this.constructor = findProxyConstructor(type);
+        }
+
+        Object create() {
+            if (constructor != null) {
+                try {
+                    return constructor.newInstance(AnonymousInvocation.INSTANCE);
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    // Creating proxy the regular way below
+                }
+            }
+
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, AnonymousInvocation.INSTANCE);
+        }
+
+        @SuppressWarnings("deprecation")
+        private static Constructor<?> findProxyConstructor(Class<?> type) {
+            try {
+                Constructor<?> constructor = Proxy.getProxyClass(type.getClassLoader(), type)
+                        .getConstructor(InvocationHandler.class);
+                constructor.setAccessible(true);
+                return constructor;
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
     }
 
     private static class AnonymousInvocation implements InvocationHandler {
+        // Stateless, shared by every proxy
+        private static final AnonymousInvocation INSTANCE = new AnonymousInvocation();
+
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) {
-            if (isEquals(method)) {
-                return Objects.hashCode(proxy) == Objects.hashCode(args[0]);
-            } else if (method.getReturnType().equals(int.class)) {
+            Class<?> returnType = method.getReturnType();
+
+            if (returnType == int.class) {
                 return 1;
-            } else if (method.getReturnType().equals(String.class)) {
+            } else if (returnType == String.class) {
                 return "Junisert$InterfaceProxy";
+            } else if (returnType == boolean.class && isEquals(method)) {
+                // Hash code of every proxy is the same, see above
+                return Objects.hashCode(args[0]) == 1;
             }
 
             throw new UnsupportedOperationException("Unable to invoke on an anonymously constructed proxy object");
         }
 
         private boolean isEquals(Method method) {
-            return method.getName().equals("equals")
-                    && method.getReturnType().equals(boolean.class)
-                    && method.getParameterCount() == 1;
+            return method.getParameterCount() == 1 && method.getName().equals("equals");
         }
     }
 }
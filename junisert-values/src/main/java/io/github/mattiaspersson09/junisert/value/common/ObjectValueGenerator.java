@@ -22,6 +22,8 @@ import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * {@link ValueGenerator} supporting and creating instance values of objects using <em>default constructors</em>. If a
@@ -56,13 +58,34 @@ public class ObjectValueGenerator implements ValueGenerator<Object> {
 
     @Override
     public Value<?> generate(Class<?> fromType) throws UnsupportedTypeError, UnsupportedConstructionError {
-        if (!supports(fromType)) {
-            throw new UnsupportedTypeError(fromType);
-        }
+        return tryGenerate(fromType).orElseThrow(() -> new UnsupportedTypeError(fromType));
+    }
 
-        try {
-            Constructor<?> defaultConstructor = fromType.getDeclaredConstructor();
+    @Override
+    public boolean supports(Class<?> type) {
+        return findDefaultConstructor(type).isPresent();
+    }
+
+    @Override
+    public Optional<Value<?>> tryGenerate(Class<?> type) throws UnsupportedConstructionError {
+        return findDefaultConstructor(type).map(constructor -> construct(type, constructor));
+    }
+
+    /**
+     * Compiles a factory constructing new instances of {@code type} from its default constructor, the same way as
+     * this generator but invoking a constructor handle.
+     *
+     * @param type to compile factory for
+     * @return compiled factory, or empty if type is not supported or can't be compiled
+     */
+    public Optional<Supplier<Object>> compileFactory(Class<?> type) {
+        return findDefaultConstructor(type)
+                .flatMap(constructor -> InstanceFactory.compile(constructor, forceConstructorAccess,
+                        new Supplier<?>[0]));
+    }
 
+    private Value<?> construct(Class<?> type, Constructor<?> defaultConstructor) {
+        try {
             if (forceConstructorAccess) {
                 defaultConstructor.setAccessible(true);
             }
@@ -73,22 +96,26 @@ public class ObjectValueGenerator implements ValueGenerator<Object> {
              */
             return Value.ofEager(defaultConstructor.newInstance());
         } catch (Exception e) {
-            throw new UnsupportedConstructionError(fromType, e);
+            throw new UnsupportedConstructionError(type, e);
         }
     }
 
-    @Override
-    public boolean supports(Class<?> type) {
-        if (WrapperPrimitiveValueGenerator.isWrapperPrimitive(type)) {
-            return false;
+    private Optional<Constructor<?>> findDefaultConstructor(Class<?> type) {
+        if (TypeClassifier.isWrapperPrimitive(type)) {
+            return Optional.empty();
         }
 
         try {
             // Would throw NoSuchMethodException if no default (no parameter) constructor is found
             Constructor<?> defaultConstructor = type.getDeclaredConstructor();
-            return Modifier.isPublic(defaultConstructor.getModifiers()) || forceConstructorAccess;
+
+            if (Modifier.isPublic(defaultConstructor.getModifiers()) || forceConstructorAccess) {
+                return Optional.of(defaultConstructor);
+            }
         } catch (Exception e) {
-            return false;
+            return Optional.empty();
         }
+
+        return Optional.empty();
     }
 }
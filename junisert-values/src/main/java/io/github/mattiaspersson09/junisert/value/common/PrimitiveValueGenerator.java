@@ -19,13 +19,11 @@ import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
 import io.github.mattiaspersson09.junisert.api.value.Value;
 import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
 
-import java.util.Optional;
-import java.util.stream.Stream;
-
 /**
  * {@link ValueGenerator} supporting and creating values for primitive types.
  *
  * @see WrapperPrimitiveValueGenerator
+ * @see TypeClassifier
  */
 public class PrimitiveValueGenerator implements ValueGenerator<Object> {
     /**
@@ -36,44 +34,13 @@ public class PrimitiveValueGenerator implements ValueGenerator<Object> {
 
     @Override
     public Value<?> generate(Class<?> fromType) throws UnsupportedTypeError {
-        return Primitive.from(fromType)
-                .map(primitive -> Value.ofEager(primitive.value, primitive.emptyValue))
+        return TypeClassifier.canonicalValueOf(fromType)
+                .filter(value -> supports(fromType))
                 .orElseThrow(() -> new UnsupportedTypeError(fromType));
     }
 
     @Override
     public boolean supports(Class<?> type) {
-        return type.isPrimitive();
-    }
-
-    /**
-     * Default empty values are as defined in Java Language Specification > 4.12.5. Initial Values of Variables:
-     * <a href="https://docs.oracle.com/javase/specs/jls/se25/html/jls-4.html#jls-4.12.5">JLS section 4.12.5</a>
-     */
-    private enum Primitive {
-        BOOLEAN(boolean.class, true, false),
-        CHAR(char.class, '1', '\u0000'),
-        BYTE(byte.class, (byte) 1, (byte) 0),
-        SHORT(short.class, (short) 1, (short) 0),
-        INTEGER(int.class, 1, 0),
-        LONG(long.class, 1L, 0L),
-        FLOAT(float.class, 1.0F, 0.0F),
-        DOUBLE(double.class, 1.0D, 0.0D);
-
-        private final Class<?> type;
-        private final Object value;
-        private final Object emptyValue;
-
-        Primitive(Class<?> type, Object value, Object emptyValue) {
-            this.type = type;
-            this.value = value;
-            this.emptyValue = emptyValue;
-        }
-
-        private static Optional<Primitive> from(Class<?> primitiveType) {
-            return Stream.of(values())
-                    .filter(primitive -> primitive.type.equals(primitiveType))
-                    .findAny();
-        }
+        return TypeClassifier.isPrimitive(type);
     }
 }
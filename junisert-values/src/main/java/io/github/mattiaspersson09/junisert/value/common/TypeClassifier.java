@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.value.common;
+
+import io.github.mattiaspersson09.junisert.api.value.Value;
+import io.github.mattiaspersson09.junisert.common.reflection.Records;
+
+import java.lang.reflect.Modifier;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Classifies types into a {@link Kind} and holds canonical values for primitive and wrapper primitive types.
+ * Classification of a type is computed once and answered in constant time after that, making it suitable for
+ * checks done on every value lookup.
+ *
+ * @see PrimitiveValueGenerator
+ * @see WrapperPrimitiveValueGenerator
+ */
+public final class TypeClassifier {
+    private static final Map<Class<?>, Value<?>> PRIMITIVE_VALUES = new IdentityHashMap<>();
+    private static final Map<Class<?>, Value<?>> WRAPPER_VALUES = new IdentityHashMap<>();
+    private static final ClassValue<Kind> KINDS = new ClassValue<Kind>() {
+        @Override
+        protected Kind computeValue(Class<?> type) {
+            return classify(type);
+        }
+    };
+
+    static {
+        // Default empty values are as defined in Java Language Specification > 4.12.5. Initial Values of Variables:
+        // https://docs.oracle.com/javase/specs/jls/se25/html/jls-4.html#jls-4.12.5
+        PRIMITIVE_VALUES.put(boolean.class, Value.ofEager(true, false));
+        PRIMITIVE_VALUES.put(char.class, Value.ofEager('1', '\u0000'));
+        PRIMITIVE_VALUES.put(byte.class, Value.ofEager((byte) 1, (byte) 0));
+        PRIMITIVE_VALUES.put(short.class, Value.ofEager((short) 1, (short) 0));
+        PRIMITIVE_VALUES.put(int.class, Value.ofEager(1, 0));
+        PRIMITIVE_VALUES.put(long.class, Value.ofEager(1L, 0L));
+        PRIMITIVE_VALUES.put(float.class, Value.ofEager(1.0F, 0.0F));
+        PRIMITIVE_VALUES.put(double.class, Value.ofEager(1.0D, 0.0D));
+
+        WRAPPER_VALUES.put(Boolean.class, Value.of(() -> Boolean.TRUE));
+        WRAPPER_VALUES.put(Character.class, Value.of(() -> '1'));
+        WRAPPER_VALUES.put(Byte.class, Value.of(() -> (byte) 1));
+        WRAPPER_VALUES.put(Short.class, Value.of(() -> (short) 1));
+        WRAPPER_VALUES.put(Integer.class, Value.of(() -> 1));
+        WRAPPER_VALUES.put(Long.class, Value.of(() -> 1L));
+        WRAPPER_VALUES.put(Float.class, Value.of(() -> 1.0F));
+        WRAPPER_VALUES.put(Double.class, Value.of(() -> 1.0D));
+        WRAPPER_VALUES.put(Number.class, Value.of(() -> 1));
+    }
+
+    private TypeClassifier() {
+    }
+
+    /**
+     * Gets the kind of {@code type}.
+     *
+     * @param type to classify
+     * @return kind of type
+     * @throws NullPointerException if type is null
+     */
+    public static Kind kindOf(Class<?> type) {
+        return KINDS.get(type);
+    }
+
+    /**
+     * Checks if {@code type} is a primitive type, including {@code void}.
+     *
+     * @param type to check, can be null
+     * @return true if type is primitive
+     */
+    public static boolean isPrimitive(Class<?> type) {
+        return type != null && kindOf(type) == Kind.PRIMITIVE;
+    }
+
+    /**
+     * Checks if {@code type} is a wrapper variant of a primitive type, including {@link Number}.
+     *
+     * @param type to check, can be null
+     * @return true if type is a wrapper primitive
+     */
+    public static boolean isWrapperPrimitive(Class<?> type) {
+        return type != null && kindOf(type) == Kind.WRAPPER;
+    }
+
+    /**
+     * Gets the canonical value of a primitive or wrapper primitive {@code type}. Primitives have their default
+     * initial value as empty value and wrappers have {@code null}.
+     *
+     * @param type to get canonical value for, can be null
+     * @return canonical value, or empty if type is null, {@code void} or neither primitive nor wrapper primitive
+     */
+    public static Optional<Value<?>> canonicalValueOf(Class<?> type) {
+        if (type == null) {
+            return Optional.empty();
+        }
+
+        switch (kindOf(type)) {
+            case PRIMITIVE:
+                return Optional.ofNullable(PRIMITIVE_VALUES.get(type));
+            case WRAPPER:
+                return Optional.of(WRAPPER_VALUES.get(type));
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private static Kind classify(Class<?> type) {
+        if (type.isPrimitive()) {
+            return Kind.PRIMITIVE;
+        }
+        if (WRAPPER_VALUES.containsKey(type)) {
+            return Kind.WRAPPER;
+        }
+        if (type.isArray()) {
+            return Kind.ARRAY;
+        }
+        if (type.isEnum()) {
+            return Kind.ENUM;
+        }
+        if (type.isInterface()) {
+            return Kind.INTERFACE;
+        }
+        if (Modifier.isAbstract(type.getModifiers())) {
+            return Kind.ABSTRACT;
+        }
+        if (Records.isRecord(type)) {
+            return Kind.RECORD;
+        }
+
+        return Kind.CONCRETE;
+    }
+
+    /**
+     * Kind of type, a type only has one kind which is the first matching in declaration order.
+     */
+    public enum Kind {
+        /**
+         * Primitive type, including {@code void}.
+         */
+        PRIMITIVE,
+        /**
+         * Wrapper variant of a primitive type, including {@link Number}.
+         */
+        WRAPPER,
+        /**
+         * Array type.
+         */
+        ARRAY,
+        /**
+         * Enum type, not including enum constants with a body.
+         */
+        ENUM,
+        /**
+         * Interface type, including annotation types.
+         */
+        INTERFACE,
+        /**
+         * Abstract class.
+         */
+        ABSTRACT,
+        /**
+         * Record class.
+         */
+        RECORD,
+        /**
+         * Any other concrete class.
+         */
+        CONCRETE
+    }
+}
@@ -19,15 +19,12 @@ import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
 import io.github.mattiaspersson09.junisert.api.value.Value;
 import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
 
-import java.util.Optional;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
-
 /**
  * {@link ValueGenerator} supporting and creating values for the wrapper variants of primitive types, including
  * {@link Number}.
  *
  * @see PrimitiveValueGenerator
+ * @see TypeClassifier
  */
 public class WrapperPrimitiveValueGenerator implements ValueGenerator<Object> {
     /**
@@ -38,43 +35,13 @@ public class WrapperPrimitiveValueGenerator implements ValueGenerator<Object> {
 
     @Override
     public Value<?> generate(Class<?> fromType) throws UnsupportedTypeError {
-        return WrapperPrimitive.from(fromType)
-                .map(wrapper -> Value.of(wrapper.value))
+        return TypeClassifier.canonicalValueOf(fromType)
+                .filter(value -> supports(fromType))
                 .orElseThrow(() -> new UnsupportedTypeError(fromType));
     }
 
     @Override
     public boolean supports(Class<?> type) {
-        return WrapperPrimitive.from(type).isPresent();
-    }
-
-    static boolean isWrapperPrimitive(Class<?> type) {
-        return WrapperPrimitive.from(type).isPresent();
-    }
-
-    private enum WrapperPrimitive {
-        BOOLEAN(Boolean.class, () -> Boolean.TRUE),
-        CHAR(Character.class, () -> '1'),
-        BYTE(Byte.class, () -> (byte) 1),
-        SHORT(Short.class, () -> (short) 1),
-        INTEGER(Integer.class, () -> 1),
-        LONG(Long.class, () -> 1L),
-        FLOAT(Float.class, () -> 1.0F),
-        DOUBLE(Double.class, () -> 1.0D),
-        NUMBER(Number.class, () -> 1);
-
-        private final Class<?> type;
-        private final Supplier<Object> value;
-
-        WrapperPrimitive(Class<?> type, Supplier<Object> value) {
-            this.type = type;
-            this.value = value;
-        }
-
-        private static Optional<WrapperPrimitive> from(Class<?> wrapperType) {
-            return Stream.of(values())
-                    .filter(wrapper -> wrapper.type.equals(wrapperType))
-                    .findAny();
-        }
+        return TypeClassifier.isWrapperPrimitive(type);
     }
 }
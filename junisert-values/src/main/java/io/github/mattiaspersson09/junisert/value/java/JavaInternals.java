@@ -15,32 +15,45 @@
  */
 package io.github.mattiaspersson09.junisert.value.java;
 
+import io.github.mattiaspersson09.junisert.api.internal.support.AggregatedSupportGenerator;
 import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
 
+import java.util.Arrays;
+
 /**
  * Factory class to construct a merged {@link ValueGenerator} for all directly supported internal Java types.
+ * Support is split into packs per Java package that are lazily loaded, a pack is first loaded when a type
+ * that it might support is requested.
  */
 public final class JavaInternals {
     private JavaInternals() {
     }
 
     /**
-     * Creates a merged {@link ValueGenerator} with all directly supported internal Java types.
+     * Creates a merged {@link ValueGenerator} with all directly supported internal Java types, where support
+     * for each Java package is loaded when first needed.
      *
      * @return {@link ValueGenerator} supporting internal Java types
      */
     public static ValueGenerator<?> getSupported() {
-        return JavaLangSupport.getLangSupport()
-                .merge(JavaUtilSupport.getUtilSupport())
-                .merge(JavaUtilSupport.getFunctionalSupport())
-                .merge(JavaUtilSupport.getStreamSupport())
-                .merge(JavaTimeSupport.getTimeSupport())
-                .merge(JavaIOSupport.getIOSupport())
-                .merge(JavaTextSupport.getTextSupport())
-                .merge(JavaNetSupport.getNetSupport())
-                .merge(JavaUtilSupport.getConcurrentSupport())
-                .merge(JavaUtilSupport.getConcurrentAtomicSupport())
-                .merge(JavaUtilSupport.getConcurrentLocksSupport())
-                .merge(JavaSecuritySupport.getSecuritySupport());
+        // Lambdas instead of method references, to not load a pack's support class before it's needed
+        return new AggregatedSupportGenerator(Arrays.asList(
+                new JavaSupportPack(() -> JavaLangSupport.getLangSupport(), "java.lang"),
+                new JavaSupportPack(() -> JavaUtilSupport.getUtilSupport(), "java.util"),
+                new JavaSupportPack(() -> JavaUtilSupport.getFunctionalSupport(), "java.util.function"),
+                new JavaSupportPack(() -> JavaUtilSupport.getStreamSupport(), "java.util.stream"),
+                new JavaSupportPack(() -> JavaTimeSupport.getTimeSupport(),
+                        "java.time", "java.time.chrono", "java.time.format", "java.time.temporal"),
+                new JavaSupportPack(() -> JavaIOSupport.getIOSupport(), "java.io"),
+                new JavaSupportPack(() -> JavaTextSupport.getTextSupport(), "java.text"),
+                new JavaSupportPack(() -> JavaNetSupport.getNetSupport(), "java.net"),
+                new JavaSupportPack(() -> JavaUtilSupport.getConcurrentSupport(), "java.util.concurrent"),
+                new JavaSupportPack(() -> JavaUtilSupport.getConcurrentAtomicSupport(),
+                        "java.util.concurrent.atomic"),
+                new JavaSupportPack(() -> JavaUtilSupport.getConcurrentLocksSupport(),
+                        "java.util.concurrent.locks"),
+                new JavaSupportPack(() -> JavaSecuritySupport.getSecuritySupport(),
+                        "java.security", "java.security.cert")
+        ));
     }
 }
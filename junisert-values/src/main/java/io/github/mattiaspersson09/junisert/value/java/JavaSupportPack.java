@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.value.java;
+
+import io.github.mattiaspersson09.junisert.api.internal.support.AggregatedValueGenerator;
+import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
+import io.github.mattiaspersson09.junisert.api.value.Value;
+import io.github.mattiaspersson09.junisert.api.value.ValueGenerator;
+import io.github.mattiaspersson09.junisert.common.logging.Logger;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Lazily loaded support for one or more Java packages. Support of a pack can only be used for a requested type
+ * that is, or has a super type, declared in one of the pack's packages. Requests for any other type is answered
+ * without loading the pack, meaning a pack is only loaded once a type it might support is requested.
+ */
+final class JavaSupportPack implements ValueGenerator<Object> {
+    private static final Logger LOGGER = Logger.getLogger(JavaSupportPack.class);
+    private static final ClassValue<Set<String>> HIERARCHY_PACKAGES = new ClassValue<Set<String>>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            Set<String> packages = new HashSet<>();
+            collectPackages(type, packages);
+            return Collections.unmodifiableSet(packages);
+        }
+    };
+
+    private final Set<String> packages;
+    private final Supplier<AggregatedValueGenerator> packSupplier;
+    private volatile AggregatedValueGenerator support;
+
+    /**
+     * Creates a new lazily loaded support pack.
+     *
+     * @param packSupplier creating support of this pack when first needed
+     * @param packages     every type supported by this pack is declared in
+     */
+    JavaSupportPack(Supplier<AggregatedValueGenerator> packSupplier, String... packages) {
+        this.packSupplier = packSupplier;
+        this.packages = new HashSet<>(Arrays.asList(packages));
+    }
+
+    @Override
+    public Value<?> generate(Class<?> fromType) throws UnsupportedTypeError {
+        if (!covers(fromType)) {
+            throw new UnsupportedTypeError(fromType);
+        }
+
+        return getSupport().generate(fromType);
+    }
+
+    @Override
+    public boolean supports(Class<?> type) {
+        return covers(type) && getSupport().supports(type);
+    }
+
+    @Override
+    public Optional<Value<?>> tryGenerate(Class<?> type) {
+        return covers(type) ? getSupport().tryGenerate(type) : Optional.empty();
+    }
+
+    boolean isLoaded() {
+        return support != null;
+    }
+
+    @Override
+    public String toString() {
+        return "JavaSupportPack{" +
+                "packages=" + packages +
+                ", loaded=" + isLoaded() +
+                '}';
+    }
+
+    private boolean covers(Class<?> type) {
+        if (type == null) {
+            return false;
+        }
+
+        for (String typePackage : HIERARCHY_PACKAGES.get(type)) {
+            if (packages.contains(typePackage)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private AggregatedValueGenerator getSupport() {
+        AggregatedValueGenerator loaded = support;
+
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = support;
+
+                if (loaded == null) {
+                    LOGGER.config("Loading Java internal support for: {0}", packages);
+                    loaded = packSupplier.get();
+                    support = loaded;
+                }
+            }
+        }
+
+        return loaded;
+    }
+
+    // Object is never supported by a pack, so it's left out to not cover every requested type
+    private static void collectPackages(Class<?> type, Set<String> packages) {
+        if (type == null || Object.class.equals(type)) {
+            return;
+        }
+
+        if (!type.isArray() && !type.isPrimitive()) {
+            String name = type.getName();
+            int lastDot = name.lastIndexOf('.');
+            packages.add(lastDot < 0 ? "" : name.substring(0, lastDot));
+        }
+
+        collectPackages(type.getSuperclass(), packages);
+
+        for (Class<?> superInterface : type.getInterfaces()) {
+            collectPackages(superInterface, packages);
+        }
+    }
+}
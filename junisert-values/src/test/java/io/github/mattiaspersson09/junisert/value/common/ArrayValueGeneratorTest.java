@@ -16,6 +16,7 @@
 package io.github.mattiaspersson09.junisert.value.common;
 
 import io.github.mattiaspersson09.junisert.api.value.UnsupportedTypeError;
+import io.github.mattiaspersson09.junisert.api.value.Value;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,6 +55,43 @@ public class ArrayValueGeneratorTest {
                 .hasSize(0);
     }
 
+    @Test
+    void generate_whenTypeIsAnArray_thenReturnsCanonicalEmptyArray() {
+        assertThat(generator.generate(TestClass[].class).get()).isSameAs(generator.generate(TestClass[].class).get());
+        assertThat(generator.generate(int[].class).asEmpty()).isNull();
+    }
+
+    @Test
+    void generate_whenPopulated_thenReturnsArrayWithElementsFromSupport() {
+        ArrayValueGenerator populated = ArrayValueGenerator.populated(new PrimitiveValueGenerator(), 3);
+        Value<?> value = populated.generate(int[].class);
+
+        assertThat((int[]) value.get()).hasSize(3).containsOnly(1);
+        assertThat((int[]) value.asEmpty()).isEmpty();
+    }
+
+    @Test
+    void generate_whenPopulatedAndMultidimensional_thenPopulatesEveryDimension() {
+        ArrayValueGenerator populated = ArrayValueGenerator.populated(new PrimitiveValueGenerator(), 2);
+
+        assertThat((int[][]) populated.generate(int[][].class).get())
+                .hasDimensions(2, 2)
+                .isEqualTo(new int[][]{{1, 1}, {1, 1}});
+    }
+
+    @Test
+    void generate_whenPopulatedAndElementNotSupported_thenReturnsEmptyArray() {
+        ArrayValueGenerator populated = ArrayValueGenerator.populated(new PrimitiveValueGenerator(), 2);
+
+        assertThat((TestClass[]) populated.generate(TestClass[].class).get()).isEmpty();
+    }
+
+    @Test
+    void populated_whenLengthIsNegative_thenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> ArrayValueGenerator.populated(new PrimitiveValueGenerator(), -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void generate_whenNotAnArray_thenThrowsUnsupportedTypeError() {
         assertThatThrownBy(() -> generator.generate(TestClass.class)).isInstanceOf(UnsupportedTypeError.class);
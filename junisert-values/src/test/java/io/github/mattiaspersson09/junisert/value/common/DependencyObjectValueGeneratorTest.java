@@ -32,6 +32,8 @@ import io.github.mattiaspersson09.junisert.testunits.polymorphism.Base;
 import io.github.mattiaspersson09.junisert.testunits.unit.pojo.ImmutableModel;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,6 +45,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -120,8 +124,7 @@ public class DependencyObjectValueGeneratorTest {
 
     @Test
     void generate_whenNotForcingAccess_andConstructorIsInaccessible_thenThrowsUnsupportedConstructionError() {
-        when(argumentGenerator.supports(Object.class)).thenReturn(true);
-        doReturn(((Value<?>) Object::new)).when(argumentGenerator).generate(Object.class);
+        doReturn(Optional.of((Value<?>) Object::new)).when(argumentGenerator).tryGenerate(Object.class);
 
         assertThatThrownBy(() -> generator.generate(PackageArgConstructor.class))
                 .isInstanceOf(UnsupportedConstructionError.class);
@@ -129,8 +132,7 @@ public class DependencyObjectValueGeneratorTest {
 
     @Test
     void generate_whenForcingAccess_andConstructorIsInaccessible_andArgumentGeneratorSupports_thenGeneratesValue() {
-        when(argumentGenerator.supports(Object.class)).thenReturn(true);
-        doReturn(((Value<?>) Object::new)).when(argumentGenerator).generate(Object.class);
+        doReturn(Optional.of((Value<?>) Object::new)).when(argumentGenerator).tryGenerate(Object.class);
 
         assertThat(DependencyObjectValueGenerator.withForcedAccess(argumentGenerator)
                 .generate(PackageArgConstructor.class))
@@ -139,8 +141,7 @@ public class DependencyObjectValueGeneratorTest {
 
     @Test
     void generate_whenSeveralConstructorsWithParameters_thenGeneratesFromLessParameters() {
-        when(argumentGenerator.supports(Object.class)).thenReturn(true);
-        doReturn(((Value<?>) Object::new)).when(argumentGenerator).generate(Object.class);
+        doReturn(Optional.of((Value<?>) Object::new)).when(argumentGenerator).tryGenerate(Object.class);
 
         SeveralParameterConstructors object = (SeveralParameterConstructors) generator.generate(
                 SeveralParameterConstructors.class).get();
@@ -149,6 +150,27 @@ public class DependencyObjectValueGeneratorTest {
         assertThat(object.getSecondConstructorField()).isNull();
     }
 
+    @Test
+    void supports_whenTypeIsRequestedSeveralTimes_thenResolvesSupportOnce() {
+        when(argumentGenerator.supports(Object.class)).thenReturn(true);
+
+        assertThat(generator.supports(ArgConstructor.class)).isTrue();
+        assertThat(generator.supports(ArgConstructor.class)).isTrue();
+
+        verify(argumentGenerator, times(1)).supports(Object.class);
+    }
+
+    @Test
+    void generate_whenTypeIsGeneratedSeveralTimes_thenCreatesUniqueInstances() {
+        doReturn(Optional.of((Value<?>) Object::new)).when(argumentGenerator).tryGenerate(Object.class);
+
+        Object first = generator.generate(ArgConstructor.class).get();
+        Object second = generator.generate(ArgConstructor.class).get();
+
+        assertThat(first).isInstanceOf(ArgConstructor.class).isNotSameAs(second);
+        verify(argumentGenerator, times(2)).tryGenerate(Object.class);
+    }
+
     @Test
     void givenNegativeMaxDependencyDepth_whenBuilding_thenIsBuiltWithZeroDepth() {
         DependencyObjectValueGenerator generator = DependencyObjectValueGenerator
@@ -172,13 +194,30 @@ public class DependencyObjectValueGeneratorTest {
 
     @Test
     void generate_givenUnitWithAbstractDependency_whenDependencyIsNotSupported_thenThrowsUnsupportedTypeError() {
-        when(argumentGenerator.supports(any())).thenReturn(false);
+        doReturn(Optional.empty()).when(argumentGenerator).tryGenerate(any());
 
         assertThatThrownBy(() -> generator.generate(HasAbstractDependency.class))
                 .isInstanceOf(UnsupportedTypeError.class)
                 .hasMessageContaining("support for type '%s'", Base.class);
     }
 
+    @Test
+    void compileFactory_whenTypeIsSupported_thenFactoryCreatesUniqueInstances_fromArgumentSupport() {
+        doReturn(Optional.of((Value<?>) Object::new)).when(argumentGenerator).tryGenerate(Object.class);
+
+        Supplier<Object> factory = generator.compileFactory(ArgConstructor.class).orElseThrow(AssertionError::new);
+
+        assertThat(factory.get()).isInstanceOf(ArgConstructor.class).isNotSameAs(factory.get());
+        verify(argumentGenerator, times(2)).tryGenerate(Object.class);
+    }
+
+    @Test
+    void compileFactory_givenUnitWithAbstractDependency_whenDependencyIsNotSupported_thenIsEmpty() {
+        doReturn(Optional.empty()).when(argumentGenerator).tryGenerate(any());
+
+        assertThat(generator.compileFactory(HasAbstractDependency.class)).isEmpty();
+    }
+
     private static class HasAbstractDependency {
         private final Base base;
 
@@ -27,6 +27,7 @@ import io.github.mattiaspersson09.junisert.testunits.polymorphism.OtherImpl;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Parameter;
+import java.util.Optional;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
@@ -64,8 +65,7 @@ public class DependencyTest {
         doReturn(new Object()).when(constructor).newInstance(any());
         doNothing().when(constructor).setAccessible(anyBoolean());
         doReturn(String.class).when(parameter).getType();
-        when(valueSupport.supports(any())).thenReturn(true);
-        doReturn((Value<?>) Object::new).when(valueSupport).generate(any());
+        doReturn(Optional.of((Value<?>) Object::new)).when(valueSupport).tryGenerate(any());
 
         Dependency dependency = createDependencyWithForcedAccessAndDependencyDepth(true, 0);
 
@@ -78,8 +78,7 @@ public class DependencyTest {
     void createInstance_whenNotForcingConstructorAccess_thenDoesNotTryToSetAccessible() {
         when(constructor.getParameters()).thenReturn(new Parameter[]{parameter});
         doReturn(String.class).when(parameter).getType();
-        when(valueSupport.supports(any())).thenReturn(true);
-        doReturn((Value<?>) Object::new).when(valueSupport).generate(any());
+        doReturn(Optional.of((Value<?>) Object::new)).when(valueSupport).tryGenerate(any());
 
         createDependencyWithForcedAccessAndDependencyDepth(false, 0).createInstance();
 
@@ -94,8 +93,7 @@ public class DependencyTest {
         when(constructor.newInstance(any())).thenThrow(RuntimeException.class);
         doReturn(OtherImpl.class).when(constructor).getDeclaringClass();
         doReturn(Object.class).when(parameter).getType();
-        when(valueSupport.supports(any())).thenReturn(true);
-        doReturn((Value<?>) Object::new).when(valueSupport).generate(any());
+        doReturn(Optional.of((Value<?>) Object::new)).when(valueSupport).tryGenerate(any());
 
         Dependency dependency = createDependencyWithDependencyDepth(0);
 
@@ -111,16 +109,14 @@ public class DependencyTest {
 
         createDependencyWithDependencyDepth(0).createInstance();
 
-        verify(valueSupport, never()).supports(any());
-        verify(valueSupport, never()).generate(any());
+        verify(valueSupport, never()).tryGenerate(any());
     }
 
     @Test
     void createInstance_whenZeroDependencyDepth_andValueSupportSupportsDependencyValue_thenGeneratesSupportedValue() throws InvocationTargetException,
                                                                                                                      InstantiationException,
                                                                                                                      IllegalAccessException {
-        when(valueSupport.supports(any())).thenReturn(true);
-        doReturn((Value<?>) Object::new).when(valueSupport).generate(any());
+        doReturn(Optional.of((Value<?>) Object::new)).when(valueSupport).tryGenerate(any());
 
         when(constructor.getParameters()).thenReturn(new Parameter[]{parameter});
         doReturn(int.class).when(parameter).getType();
@@ -129,8 +125,7 @@ public class DependencyTest {
 
         createDependencyWithDependencyDepth(0).createInstance();
 
-        verify(valueSupport, times(1)).supports(any());
-        verify(valueSupport, times(1)).generate(any());
+        verify(valueSupport, times(1)).tryGenerate(any());
     }
 
     @Test
@@ -138,7 +133,7 @@ public class DependencyTest {
         when(constructor.getParameters()).thenReturn(new Parameter[]{parameter});
         doReturn(OtherImpl.class).when(constructor).getDeclaringClass();
         doReturn(Object.class).when(parameter).getType();
-        when(valueSupport.supports(any())).thenReturn(false);
+        doReturn(Optional.empty()).when(valueSupport).tryGenerate(any());
 
         Dependency dependency = createDependencyWithDependencyDepth(0);
 
@@ -147,8 +142,7 @@ public class DependencyTest {
 
     @Test
     void createInstance_whenSeveralDependencyDepths_butValueSupportSupportsDependencyValue_thenHandlesSupportDirectly() {
-        when(valueSupport.supports(any())).thenReturn(true);
-        doReturn((Value<?>) Object::new).when(valueSupport).generate(any());
+        doReturn(Optional.of((Value<?>) Object::new)).when(valueSupport).tryGenerate(any());
 
         when(constructor.getParameters()).thenReturn(new Parameter[]{parameter});
         doReturn(int.class).when(parameter).getType();
@@ -156,8 +150,7 @@ public class DependencyTest {
 
         createDependencyWithDependencyDepth(5).createInstance();
 
-        verify(valueSupport, times(1)).supports(any());
-        verify(valueSupport, times(1)).generate(any());
+        verify(valueSupport, times(1)).tryGenerate(any());
         verify(extractDependencyConstructor, never()).apply(any());
     }
 
@@ -169,7 +162,7 @@ public class DependencyTest {
         doReturn(Object.class).when(parameter).getType();
         when(constructor.getParameters()).thenReturn(new Parameter[]{parameter});
         doReturn(Impl.class).when(constructor).getDeclaringClass();
-        when(valueSupport.supports(any())).thenReturn(false);
+        doReturn(Optional.empty()).when(valueSupport).tryGenerate(any());
 
         Function<Class<?>, Constructor<?>> extractDependencyConstructor = null;
         Dependency dependency = new Dependency(
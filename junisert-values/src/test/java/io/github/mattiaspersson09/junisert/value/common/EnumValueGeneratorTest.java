@@ -56,6 +56,22 @@ public class EnumValueGeneratorTest {
                 .isIn(EnumUnit.CONST, EnumUnit.OTHER_CONST);
     }
 
+    @Test
+    void generate_whenTypeIsAnEnum_thenEmptyIsNull() {
+        assertThat(generator.generate(EnumUnit.class).asEmpty()).isNull();
+        assertThat(generator.generate(EnumUnit.class, 1).asEmpty()).isNull();
+    }
+
+    @Test
+    void generate_whenRotated_thenGeneratesDistinctConstants() {
+        Value<?> first = generator.generate(EnumUnit.class, 0);
+        Value<?> second = generator.generate(EnumUnit.class, 1);
+
+        assertThat(first.get()).isNotEqualTo(second.get());
+        assertThat(generator.generate(EnumUnit.class, 2).get()).isEqualTo(first.get());
+        assertThat(generator.generate(EnumUnit.class, -1).get()).isEqualTo(second.get());
+    }
+
     @Test
     void generate_whenNotSupported_thenThrowsUnsupportedTypeError() {
         assertThatThrownBy(() -> generator.generate(Class.class))
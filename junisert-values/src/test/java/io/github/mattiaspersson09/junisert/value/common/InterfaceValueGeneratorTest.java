@@ -55,6 +55,16 @@ public class InterfaceValueGeneratorTest {
         assertThat(generator.generate(NestedInterface.Interface.class).asEmpty()).isNull();
     }
 
+    @Test
+    void generate_whenGeneratedManyTimes_thenCreatesDistinctEqualProxiesOfSameClass() {
+        Object proxy = generator.generate(Interface.class).get();
+        Object otherProxy = generator.generate(Interface.class).get();
+
+        assertThat(proxy).isNotSameAs(otherProxy).isEqualTo(otherProxy);
+        assertThat(proxy.getClass()).isSameAs(otherProxy.getClass());
+        assertThat(proxy).hasSameHashCodeAs(otherProxy);
+    }
+
     @Test
     void generate_whenTypeIsNotSupported_thenThrowsUnsupportedTypeError() {
         assertThatThrownBy(() -> generator.generate(Abstract.class)).isInstanceOf(UnsupportedTypeError.class);
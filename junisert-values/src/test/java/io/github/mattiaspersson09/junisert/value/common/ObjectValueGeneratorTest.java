@@ -64,6 +64,14 @@ public class ObjectValueGeneratorTest {
         assertThat(generator.supports(ArgConstructor.class)).isFalse();
     }
 
+    @Test
+    void tryGenerate_whenSupported_thenConstructsValue_andWhenNotSupported_thenIsEmpty() {
+        assertThat(generator.tryGenerate(DefaultPublicConstructor.class))
+                .hasValueSatisfying(value -> assertThat(value.get()).isInstanceOf(DefaultPublicConstructor.class));
+        assertThat(generator.tryGenerate(DefaultPrivateConstructor.class)).isEmpty();
+        assertThat(generator.tryGenerate(ArgConstructor.class)).isEmpty();
+    }
+
     @Test
     void generate_whenForcesConstructorAccess_andClassHasDefaultConstructor_thenConstructsValue() {
         ObjectValueGenerator generator = ObjectValueGenerator.withForcedAccess();
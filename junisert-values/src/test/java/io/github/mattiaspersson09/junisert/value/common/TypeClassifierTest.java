@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Mattias Persson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.mattiaspersson09.junisert.value.common;
+
+import io.github.mattiaspersson09.junisert.testunits.polymorphism.Base;
+import io.github.mattiaspersson09.junisert.testunits.polymorphism.Impl;
+import io.github.mattiaspersson09.junisert.testunits.polymorphism.Super;
+import io.github.mattiaspersson09.junisert.value.common.TypeClassifier.Kind;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TypeClassifierTest {
+    @ParameterizedTest
+    @ValueSource(classes = {boolean.class, char.class, byte.class, short.class, int.class, long.class, float.class,
+            double.class})
+    void primitives_haveCanonicalValues(Class<?> type) {
+        assertThat(TypeClassifier.kindOf(type)).isEqualTo(Kind.PRIMITIVE);
+        assertThat(TypeClassifier.isPrimitive(type)).isTrue();
+        assertThat(TypeClassifier.canonicalValueOf(type)).hasValueSatisfying(value -> {
+            assertThat(value.get()).isNotNull();
+            assertThat(value.asEmpty()).isNotNull().isNotEqualTo(value.get());
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, Number.class})
+    void wrapperPrimitives_haveCanonicalValues(Class<?> type) {
+        assertThat(TypeClassifier.kindOf(type)).isEqualTo(Kind.WRAPPER);
+        assertThat(TypeClassifier.isWrapperPrimitive(type)).isTrue();
+        assertThat(TypeClassifier.canonicalValueOf(type)).hasValueSatisfying(value -> {
+            assertThat(value.get()).isInstanceOf(type);
+            assertThat(value.asEmpty()).isNull();
+        });
+    }
+
+    @Test
+    void kindOf_classifiesOtherKinds() {
+        assertThat(TypeClassifier.kindOf(void.class)).isEqualTo(Kind.PRIMITIVE);
+        assertThat(TypeClassifier.kindOf(int[].class)).isEqualTo(Kind.ARRAY);
+        assertThat(TypeClassifier.kindOf(Integer[].class)).isEqualTo(Kind.ARRAY);
+        assertThat(TypeClassifier.kindOf(RetentionPolicy.class)).isEqualTo(Kind.ENUM);
+        assertThat(TypeClassifier.kindOf(Super.class)).isEqualTo(Kind.INTERFACE);
+        assertThat(TypeClassifier.kindOf(Retention.class)).isEqualTo(Kind.INTERFACE);
+        assertThat(TypeClassifier.kindOf(Base.class)).isEqualTo(Kind.ABSTRACT);
+        assertThat(TypeClassifier.kindOf(Impl.class)).isEqualTo(Kind.CONCRETE);
+        assertThat(TypeClassifier.kindOf(String.class)).isEqualTo(Kind.CONCRETE);
+    }
+
+    @Test
+    void canonicalValueOf_whenNotPrimitiveOrWrapper_thenIsEmpty() {
+        assertThat(TypeClassifier.canonicalValueOf(void.class)).isEmpty();
+        assertThat(TypeClassifier.canonicalValueOf(String.class)).isEmpty();
+        assertThat(TypeClassifier.canonicalValueOf(null)).isEmpty();
+    }
+
+    @Test
+    void whenTypeIsNull_thenIsNeitherPrimitiveNorWrapper() {
+        assertThat(TypeClassifier.isPrimitive(null)).isFalse();
+        assertThat(TypeClassifier.isWrapperPrimitive(null)).isFalse();
+    }
+}